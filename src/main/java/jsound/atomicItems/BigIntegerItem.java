@@ -0,0 +1,64 @@
+package jsound.atomicItems;
+
+import jsound.item.AtomicItem;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+public class BigIntegerItem extends AtomicItem {
+
+    private BigInteger _value;
+
+    public BigIntegerItem(BigInteger integer) {
+        this._value = integer;
+    }
+
+    @Override
+    public BigInteger getBigIntegerValue() {
+        return _value;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return true;
+    }
+
+    @Override
+    public boolean isBigInteger() {
+        return true;
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() {
+        return new BigDecimal(this._value);
+    }
+
+    @Override
+    public BigDecimal castToDecimalValue() {
+        return new BigDecimal(this._value);
+    }
+
+    @Override
+    public String getStringValue() {
+        return this._value.toString();
+    }
+
+    @Override
+    public String getStringAnnotation() {
+        return this.getStringValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return this._value.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof BigIntegerItem))
+            return false;
+        return this._value.equals(((BigIntegerItem) o)._value);
+    }
+}
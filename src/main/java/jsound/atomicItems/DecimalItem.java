@@ -6,7 +6,7 @@ import java.math.BigDecimal;
 
 public class DecimalItem extends AtomicItem {
 
-    private BigDecimal _value;
+    private final BigDecimal _value;
 
     public DecimalItem(BigDecimal value) {
         this._value = value;
@@ -19,12 +19,12 @@ public class DecimalItem extends AtomicItem {
 
     @Override
     public BigDecimal castToDecimalValue() {
-        return _value;
+        return this.getDecimalValue();
     }
 
     @Override
     public String getStringValue() {
-        return this._value.toString();
+        return this.getDecimalValue().toString();
     }
 
     @Override
@@ -34,6 +34,15 @@ public class DecimalItem extends AtomicItem {
 
     @Override
     public int hashCode() {
-        return this._value.hashCode();
+        return this.getDecimalValue().stripTrailingZeros().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof DecimalItem))
+            return false;
+        return this.getDecimalValue().compareTo(((DecimalItem) o).getDecimalValue()) == 0;
     }
 }
@@ -4,7 +4,7 @@ import jsound.item.AtomicItem;
 
 public class DoubleItem extends AtomicItem {
 
-    private Double _value;
+    private final Double _value;
 
     public DoubleItem(Double value) {
         this._value = value;
@@ -17,7 +17,8 @@ public class DoubleItem extends AtomicItem {
 
     @Override
     public String getStringValue() {
-        return (!this._value.isInfinite() && !this._value.isNaN()) ? this._value.toString() : "null";
+        Double value = this.getDoubleValue();
+        return (!value.isInfinite() && !value.isNaN()) ? value.toString() : "null";
     }
 
     @Override
@@ -27,6 +28,15 @@ public class DoubleItem extends AtomicItem {
 
     @Override
     public int hashCode() {
-        return this._value.hashCode();
+        return this.getDoubleValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof DoubleItem))
+            return false;
+        return this.getDoubleValue().equals(((DoubleItem) o).getDoubleValue());
     }
 }
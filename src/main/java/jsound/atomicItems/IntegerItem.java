@@ -3,33 +3,44 @@ package jsound.atomicItems;
 import jsound.item.AtomicItem;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 public class IntegerItem extends AtomicItem {
 
-    private Integer _value;
+    private final long _value;
 
-    public IntegerItem(Integer integer) {
+    public IntegerItem(long integer) {
         this._value = integer;
     }
 
     @Override
-    public Integer getIntegerValue() {
+    public long getIntegerValue() {
         return _value;
     }
 
+    @Override
+    public BigInteger getBigIntegerValue() {
+        return BigInteger.valueOf(this.getIntegerValue());
+    }
+
+    @Override
+    public boolean isInteger() {
+        return true;
+    }
+
     @Override
     public BigDecimal getDecimalValue() {
-        return new BigDecimal(this._value);
+        return BigDecimal.valueOf(this.getIntegerValue());
     }
 
     @Override
     public BigDecimal castToDecimalValue() {
-        return BigDecimal.valueOf(this._value);
+        return BigDecimal.valueOf(this.getIntegerValue());
     }
 
     @Override
     public String getStringValue() {
-        return this._value.toString();
+        return Long.toString(this.getIntegerValue());
     }
 
     @Override
@@ -39,6 +50,15 @@ public class IntegerItem extends AtomicItem {
 
     @Override
     public int hashCode() {
-        return this._value.hashCode();
+        return Long.hashCode(this.getIntegerValue());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof IntegerItem))
+            return false;
+        return this.getIntegerValue() == ((IntegerItem) o).getIntegerValue();
     }
 }
@@ -2,15 +2,26 @@ package jsound.atomicItems;
 
 import jsound.item.AtomicItem;
 
+import java.nio.charset.StandardCharsets;
+
 
 public class StringItem extends AtomicItem {
 
     private String _value;
+    private byte[] _buffer;
+    private int _start;
+    private int _end;
 
     public StringItem(String string) {
         this._value = string;
     }
 
+    public StringItem(byte[] buffer, int start, int end) {
+        this._buffer = buffer;
+        this._start = start;
+        this._end = end;
+    }
+
     @Override
     public boolean isString() {
         return true;
@@ -18,18 +29,40 @@ public class StringItem extends AtomicItem {
 
     @Override
     public String getStringValue() {
+        if (this._buffer != null) {
+            this._value = new String(this._buffer, this._start, this._end - this._start, StandardCharsets.UTF_8);
+            this._buffer = null;
+        }
         return this._value;
     }
 
+    @Override
+    public int getStringLength() {
+        if (this._buffer == null)
+            return this._value.codePointCount(0, this._value.length());
+        return getStringLength(this._buffer, this._start, this._end);
+    }
+
+    public static int getStringLength(byte[] buffer, int start, int end) {
+        int length = 0;
+        for (int index = start; index < end; index++) {
+            if ((buffer[index] & 0xC0) != 0x80)
+                length++;
+        }
+        return length;
+    }
+
     @Override
     public int hashCode() {
-        return this._value.hashCode();
+        return this.getStringValue().hashCode();
     }
 
     @Override
     public boolean equals(Object o) {
+        if (this == o)
+            return true;
         if (!(o instanceof StringItem))
             return false;
-        return this._value.equals(((StringItem) o)._value);
+        return this.getStringValue().equals(((StringItem) o).getStringValue());
     }
 }
@@ -4,6 +4,7 @@ import org.api.TypeDescriptor;
 import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
 import jsound.atomicItems.AnyURIItem;
 import jsound.facets.AtomicFacets;
+import jsound.facets.EnumerationIndex;
 import jsound.facets.FacetTypes;
 import org.api.Item;
 import jsound.types.ItemTypes;
@@ -40,22 +41,25 @@ public class AnyURIType extends AtomicTypeDescriptor {
         if (this.getFacets() == null)
             return true;
         item = new AnyURIItem(uri);
-        return validateLengthFacets(item, isEnumValue);
+        return validateFacets(item, isEnumValue);
     }
 
     @Override
-    protected boolean validateItemAgainstEnumeration(Item item) throws IllegalArgumentException {
-        URI uri = item.getAnyURIValue();
-        for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (uri.equals(URI.create(enumItem.getStringValue())))
-                return true;
-        }
-        return false;
+    protected Item toValueSpace(Item item) {
+        return new AnyURIItem(URI.create(item.getStringValue()));
+    }
+
+    @Override
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        Set<URI> keys = new HashSet<>();
+        for (Item value : values)
+            keys.add(value.getAnyURIValue());
+        return item -> keys.contains(item.getAnyURIValue());
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        areLengthFacetsMoreRestrictive(typeDescriptor);
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        areLengthFacetsMoreRestrictive(typeDescriptor, checkedTypes);
     }
 
     @Override
@@ -5,6 +5,8 @@ import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
 import org.apache.commons.codec.binary.Base64;
 import jsound.atomicItems.Base64BinaryItem;
 import jsound.facets.AtomicFacets;
+import jsound.facets.BytesHashSet;
+import jsound.facets.EnumerationIndex;
 import jsound.facets.FacetTypes;
 import org.api.Item;
 import jsound.types.ItemTypes;
@@ -40,22 +42,25 @@ public class Base64BinaryType extends AtomicTypeDescriptor {
         if (this.getFacets() == null)
             return true;
         item = new Base64BinaryItem(base64BinaryValue, item.getStringValue());
-        return validateLengthFacets(item, isEnumValue);
+        return validateFacets(item, isEnumValue);
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        areLengthFacetsMoreRestrictive(typeDescriptor);
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        areLengthFacetsMoreRestrictive(typeDescriptor, checkedTypes);
     }
 
     @Override
-    protected boolean validateItemAgainstEnumeration(Item item) {
-        byte[] base64 = item.getBinaryValue();
-        for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (Arrays.equals(base64, Base64.decodeBase64(enumItem.getStringValue())))
-                return true;
-        }
-        return false;
+    protected Item toValueSpace(Item item) {
+        return new Base64BinaryItem(Base64.decodeBase64(item.getStringValue()), item.getStringValue());
+    }
+
+    @Override
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        BytesHashSet keys = new BytesHashSet(values.length);
+        for (Item value : values)
+            keys.add(value.getBinaryValue());
+        return item -> keys.contains(item.getBinaryValue());
     }
 
     @Override
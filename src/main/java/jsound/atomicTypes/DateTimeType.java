@@ -8,7 +8,10 @@ import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.ISODateTimeFormat;
 import jsound.atomicItems.DateTimeItem;
 import jsound.facets.AtomicFacets;
+import jsound.facets.EnumerationIndex;
+import jsound.facets.FacetCheck;
 import jsound.facets.FacetTypes;
+import jsound.facets.LongHashSet;
 import jsound.facets.TimezoneFacet;
 import org.api.Item;
 import jsound.types.ItemTypes;
@@ -48,7 +51,7 @@ public class DateTimeType extends AtomicTypeDescriptor {
         if (this.getFacets() == null)
             return true;
         item = new DateTimeItem(dateTime);
-        if (!validateBoundariesFacets(item, isEnumValue))
+        if (!validateFacets(item, isEnumValue))
             return false;
         return !this.getFacets().getDefinedFacets().contains(EXPLICIT_TIMEZONE)
             || checkExplicitTimezone(
@@ -70,6 +73,11 @@ public class DateTimeType extends AtomicTypeDescriptor {
                 || !explicitTimezone.equals(TimezoneFacet.REQUIRED));
     }
 
+    @Override
+    protected FacetCheck createBoundsCheck(AtomicFacets facets) {
+        return createEpochMillisBoundsCheck(facets, item -> getDateTimeFromItem(item).getMillis());
+    }
+
     @Override
     protected int compare(Item item1, Item item2) {
         return compareDateTime(item1, item2);
@@ -80,13 +88,16 @@ public class DateTimeType extends AtomicTypeDescriptor {
     }
 
     @Override
-    protected boolean validateItemAgainstEnumeration(Item item) {
-        DateTime dateTime = item.getDateTime();
-        for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (dateTime.equals(getDateTimeFromItem(enumItem)))
-                return true;
-        }
-        return false;
+    protected Item toValueSpace(Item item) {
+        return new DateTimeItem(getDateTimeFromItem(item));
+    }
+
+    @Override
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        LongHashSet keys = new LongHashSet(values.length);
+        for (Item value : values)
+            keys.add(value.getDateTime().getMillis());
+        return item -> keys.contains(item.getDateTime().getMillis());
     }
 
     private DateTime getDateTimeFromItem(Item item) {
@@ -102,8 +113,8 @@ public class DateTimeType extends AtomicTypeDescriptor {
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        checkBoundariesAndTimezoneFacets(typeDescriptor);
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        checkBoundariesAndTimezoneFacets(typeDescriptor, checkedTypes);
     }
 
     @Override
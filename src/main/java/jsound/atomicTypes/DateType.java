@@ -9,7 +9,10 @@ import org.joda.time.format.DateTimeFormatterBuilder;
 import org.joda.time.format.DateTimeParser;
 import jsound.atomicItems.DateItem;
 import jsound.facets.AtomicFacets;
+import jsound.facets.EnumerationIndex;
+import jsound.facets.FacetCheck;
 import jsound.facets.FacetTypes;
+import jsound.facets.LongHashSet;
 import org.api.Item;
 import jsound.types.ItemTypes;
 
@@ -57,20 +60,28 @@ public class DateType extends AtomicTypeDescriptor {
         if (this.getFacets() == null)
             return true;
         item = new DateItem(date);
-        if (!validateBoundariesFacets(item, isEnumValue))
+        if (!validateFacets(item, isEnumValue))
             return false;
         return !this.getFacets().getDefinedFacets().contains(EXPLICIT_TIMEZONE)
             || DateTimeType.checkExplicitTimezone(item, this.getFacets().explicitTimezone, _formatter);
     }
 
     @Override
-    protected boolean validateItemAgainstEnumeration(Item item) {
-        DateTime date = item.getDateTime();
-        for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (date.equals(getDateFromItem(enumItem)))
-                return true;
-        }
-        return false;
+    protected Item toValueSpace(Item item) {
+        return new DateItem(getDateFromItem(item));
+    }
+
+    @Override
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        LongHashSet keys = new LongHashSet(values.length);
+        for (Item value : values)
+            keys.add(value.getDateTime().getMillis());
+        return item -> keys.contains(item.getDateTime().getMillis());
+    }
+
+    @Override
+    protected FacetCheck createBoundsCheck(AtomicFacets facets) {
+        return createEpochMillisBoundsCheck(facets, item -> getDateFromItem(item).getMillis());
     }
 
     @Override
@@ -95,8 +106,8 @@ public class DateType extends AtomicTypeDescriptor {
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        checkBoundariesAndTimezoneFacets(typeDescriptor);
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        checkBoundariesAndTimezoneFacets(typeDescriptor, checkedTypes);
     }
 
     @Override
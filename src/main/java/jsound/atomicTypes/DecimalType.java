@@ -4,6 +4,9 @@ import org.api.TypeDescriptor;
 import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
 import jsound.atomicItems.DecimalItem;
 import jsound.facets.AtomicFacets;
+import jsound.facets.DecimalBounds;
+import jsound.facets.EnumerationIndex;
+import jsound.facets.FacetCheck;
 import jsound.facets.FacetTypes;
 import org.api.Item;
 import jsound.types.ItemTypes;
@@ -13,6 +16,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import static jsound.facets.FacetTypes.ENUMERATION;
 import static jsound.facets.FacetTypes.FRACTION_DIGITS;
 import static jsound.facets.FacetTypes.MAX_EXCLUSIVE;
 import static jsound.facets.FacetTypes.MAX_INCLUSIVE;
@@ -33,6 +37,11 @@ public class DecimalType extends AtomicTypeDescriptor {
             )
     );
 
+    private DecimalBounds decimalBounds = DecimalBounds.UNBOUNDED;
+    private int maxDigits = MAX_LONG_DIGITS;
+    private int maxScale = Integer.MAX_VALUE;
+    private boolean validatesUnscaledValues = false;
+
     public DecimalType(String name, AtomicFacets facets) {
         super(ItemTypes.DECIMAL, name, facets);
     }
@@ -55,7 +64,55 @@ public class DecimalType extends AtomicTypeDescriptor {
         if (this.getFacets() == null)
             return true;
         item = new DecimalItem(decimalValue);
-        return validateBoundariesFacets(item, isEnumValue) && validateDigitsFacets(item);
+        return validateFacets(item, isEnumValue);
+    }
+
+    public boolean validate(long unscaledValue, int scale) {
+        if (this.getFacets() == null)
+            return true;
+        if (!validatesUnscaledValues)
+            return validate(new DecimalItem(BigDecimal.valueOf(unscaledValue, scale)), false);
+        return scale <= maxScale
+            && (maxDigits >= MAX_LONG_DIGITS || countDigits(unscaledValue) <= maxDigits)
+            && (decimalBounds.isUnbounded() || decimalBounds.contains(BigDecimal.valueOf(unscaledValue, scale)));
+    }
+
+    @Override
+    protected void compile() {
+        super.compile();
+        AtomicFacets facets = this.getFacets();
+        if (facets == null)
+            return;
+        Set<FacetTypes> definedFacets = facets.getDefinedFacets();
+        this.decimalBounds = createDecimalBounds(facets);
+        this.maxDigits = definedFacets.contains(TOTAL_DIGITS) ? facets.totalDigits : MAX_LONG_DIGITS;
+        this.maxScale = definedFacets.contains(FRACTION_DIGITS) ? facets.fractionDigits : Integer.MAX_VALUE;
+        this.validatesUnscaledValues = !definedFacets.contains(ENUMERATION);
+    }
+
+    @Override
+    protected FacetCheck createBoundsCheck(AtomicFacets facets) {
+        DecimalBounds bounds = createDecimalBounds(facets);
+        if (bounds.isUnbounded())
+            return null;
+        return (item, isEnumValue) -> bounds.contains(item.getDecimalValue());
+    }
+
+    private DecimalBounds createDecimalBounds(AtomicFacets facets) {
+        FacetTypes lowerBoundFacet = getLowerBoundFacet(facets);
+        FacetTypes upperBoundFacet = getUpperBoundFacet(facets);
+        DecimalBounds bounds = DecimalBounds.UNBOUNDED;
+        if (lowerBoundFacet != null)
+            bounds = bounds.withLower(
+                getDecimalFromItem(getBound(facets, lowerBoundFacet)),
+                lowerBoundFacet == MIN_EXCLUSIVE
+            );
+        if (upperBoundFacet != null)
+            bounds = bounds.withUpper(
+                getDecimalFromItem(getBound(facets, upperBoundFacet)),
+                upperBoundFacet == MAX_EXCLUSIVE
+            );
+        return bounds;
     }
 
     @Override
@@ -68,13 +125,16 @@ public class DecimalType extends AtomicTypeDescriptor {
     }
 
     @Override
-    protected boolean validateItemAgainstEnumeration(Item item) {
-        BigDecimal decimalValue = item.getDecimalValue();
-        for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (decimalValue.compareTo(getDecimalFromItem(enumItem)) == 0)
-                return true;
-        }
-        return false;
+    protected Item toValueSpace(Item item) {
+        return new DecimalItem(getDecimalFromItem(item));
+    }
+
+    @Override
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        Set<BigDecimal> keys = new HashSet<>();
+        for (Item value : values)
+            keys.add(value.getDecimalValue().stripTrailingZeros());
+        return item -> keys.contains(item.getDecimalValue().stripTrailingZeros());
     }
 
     private BigDecimal getDecimalFromItem(Item item) {
@@ -84,8 +144,8 @@ public class DecimalType extends AtomicTypeDescriptor {
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        checkBoundariesAndDigitsFacets(typeDescriptor);
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        checkBoundariesAndDigitsFacets(typeDescriptor, checkedTypes);
     }
 
     @Override
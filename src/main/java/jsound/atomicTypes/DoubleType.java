@@ -4,7 +4,11 @@ import org.api.TypeDescriptor;
 import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
 import jsound.atomicItems.DoubleItem;
 import jsound.facets.AtomicFacets;
+import jsound.facets.DoubleBounds;
+import jsound.facets.EnumerationIndex;
+import jsound.facets.FacetCheck;
 import jsound.facets.FacetTypes;
+import jsound.facets.LongHashSet;
 import org.api.Item;
 import jsound.types.ItemTypes;
 
@@ -12,6 +16,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import static jsound.facets.FacetTypes.ENUMERATION;
 import static jsound.facets.FacetTypes.MAX_EXCLUSIVE;
 import static jsound.facets.FacetTypes.MAX_INCLUSIVE;
 import static jsound.facets.FacetTypes.MIN_EXCLUSIVE;
@@ -23,6 +28,9 @@ public class DoubleType extends AtomicTypeDescriptor {
             Arrays.asList(MIN_INCLUSIVE, MAX_INCLUSIVE, MIN_EXCLUSIVE, MAX_EXCLUSIVE)
     );
 
+    private DoubleBounds doubleBounds = DoubleBounds.UNBOUNDED;
+    private boolean validatesDoubleValues = false;
+
     public DoubleType(String name, AtomicFacets facets) {
         super(ItemTypes.DOUBLE, name, facets);
     }
@@ -45,7 +53,50 @@ public class DoubleType extends AtomicTypeDescriptor {
         if (this.getFacets() == null)
             return true;
         item = new DoubleItem(doubleValue);
-        return validateBoundariesFacets(item, isEnumValue);
+        return validateFacets(item, isEnumValue);
+    }
+
+    public boolean validate(double value) {
+        if (this.getFacets() == null)
+            return true;
+        if (!validatesDoubleValues)
+            return validate(new DoubleItem(value), false);
+        return doubleBounds.contains(value);
+    }
+
+    @Override
+    protected void compile() {
+        super.compile();
+        AtomicFacets facets = this.getFacets();
+        if (facets == null)
+            return;
+        this.doubleBounds = createDoubleBounds(facets);
+        this.validatesDoubleValues = !facets.getDefinedFacets().contains(ENUMERATION);
+    }
+
+    @Override
+    protected FacetCheck createBoundsCheck(AtomicFacets facets) {
+        if (getLowerBoundFacet(facets) == null && getUpperBoundFacet(facets) == null)
+            return null;
+        DoubleBounds bounds = createDoubleBounds(facets);
+        return (item, isEnumValue) -> bounds.contains(item.getDoubleValue());
+    }
+
+    private DoubleBounds createDoubleBounds(AtomicFacets facets) {
+        FacetTypes lowerBoundFacet = getLowerBoundFacet(facets);
+        FacetTypes upperBoundFacet = getUpperBoundFacet(facets);
+        DoubleBounds bounds = DoubleBounds.UNBOUNDED;
+        if (lowerBoundFacet != null)
+            bounds = bounds.withLower(
+                getDoubleFromItem(getBound(facets, lowerBoundFacet)),
+                lowerBoundFacet == MIN_EXCLUSIVE
+            );
+        if (upperBoundFacet != null)
+            bounds = bounds.withUpper(
+                getDoubleFromItem(getBound(facets, upperBoundFacet)),
+                upperBoundFacet == MAX_EXCLUSIVE
+            );
+        return bounds;
     }
 
     @Override
@@ -58,13 +109,16 @@ public class DoubleType extends AtomicTypeDescriptor {
     }
 
     @Override
-    protected boolean validateItemAgainstEnumeration(Item item) {
-        Double doubleValue = item.getDoubleValue();
-        for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (doubleValue.compareTo(getDoubleFromItem(enumItem)) == 0)
-                return true;
-        }
-        return false;
+    protected Item toValueSpace(Item item) {
+        return new DoubleItem(getDoubleFromItem(item));
+    }
+
+    @Override
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        LongHashSet keys = new LongHashSet(values.length);
+        for (Item value : values)
+            keys.add(Double.doubleToLongBits(value.getDoubleValue()));
+        return item -> keys.contains(Double.doubleToLongBits(item.getDoubleValue()));
     }
 
     private Double getDoubleFromItem(Item item) {
@@ -74,8 +128,8 @@ public class DoubleType extends AtomicTypeDescriptor {
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        checkBoundariesFacet(typeDescriptor);
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        checkBoundariesFacet(typeDescriptor, checkedTypes);
     }
 
     @Override
@@ -8,7 +8,9 @@ import org.joda.time.format.ISOPeriodFormat;
 import org.joda.time.format.PeriodFormatter;
 import jsound.atomicItems.DurationItem;
 import jsound.facets.AtomicFacets;
+import jsound.facets.EnumerationIndex;
 import jsound.facets.FacetTypes;
+import jsound.facets.LongPairHashSet;
 import org.api.Item;
 import jsound.types.ItemTypes;
 
@@ -70,7 +72,7 @@ public class DurationType extends AtomicTypeDescriptor {
         if (this.getFacets() == null)
             return true;
         item = createDurationItem(period);
-        return validateBoundariesFacets(item, isEnumValue);
+        return validateFacets(item, isEnumValue);
     }
 
     protected DurationItem createDurationItem(Period period) {
@@ -78,13 +80,26 @@ public class DurationType extends AtomicTypeDescriptor {
     }
 
     @Override
-    protected boolean validateItemAgainstEnumeration(Item item) {
-        Period period = item.getDuration();
-        for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (period.equals(getDurationFromItem(enumItem)))
-                return true;
-        }
-        return false;
+    protected Item toValueSpace(Item item) {
+        return createDurationItem(getDurationFromItem(item));
+    }
+
+    @Override
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        LongPairHashSet keys = new LongPairHashSet(values.length);
+        for (Item value : values)
+            keys.add(getMonths(value.getDuration()), getMillis(value.getDuration()));
+        return item -> keys.contains(getMonths(item.getDuration()), getMillis(item.getDuration()));
+    }
+
+    private static long getMonths(Period period) {
+        return 12L * period.getYears() + period.getMonths();
+    }
+
+    private static long getMillis(Period period) {
+        long days = 7L * period.getWeeks() + period.getDays();
+        long minutes = 60L * (24 * days + period.getHours()) + period.getMinutes();
+        return 1000L * (60 * minutes + period.getSeconds()) + period.getMillis();
     }
 
     @Override
@@ -113,8 +128,8 @@ public class DurationType extends AtomicTypeDescriptor {
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        checkBoundariesFacet(typeDescriptor);
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        checkBoundariesFacet(typeDescriptor, checkedTypes);
     }
 
     @Override
@@ -5,7 +5,10 @@ import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
 import jsound.atomicItems.HexBinaryItem;
+import jsound.exceptions.UnexpectedTypeException;
 import jsound.facets.AtomicFacets;
+import jsound.facets.BytesHashSet;
+import jsound.facets.EnumerationIndex;
 import jsound.facets.FacetTypes;
 import org.api.Item;
 import jsound.types.ItemTypes;
@@ -41,22 +44,29 @@ public class HexBinaryType extends AtomicTypeDescriptor {
         if (this.getFacets() == null)
             return true;
         item = new HexBinaryItem(hexValue, item.getStringValue());
-        return validateLengthFacets(item, isEnumValue);
+        return validateFacets(item, isEnumValue);
     }
 
     @Override
-    protected boolean validateItemAgainstEnumeration(Item item) throws DecoderException {
-        byte[] hexValue = item.getBinaryValue();
-        for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (Arrays.equals(hexValue, Hex.decodeHex(enumItem.getStringValue().toCharArray())))
-                return true;
+    protected Item toValueSpace(Item item) {
+        try {
+            return new HexBinaryItem(Hex.decodeHex(item.getStringValue().toCharArray()), item.getStringValue());
+        } catch (DecoderException e) {
+            throw new UnexpectedTypeException(item.getStringValue() + " is not a hexBinary value.");
         }
-        return false;
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        areLengthFacetsMoreRestrictive(typeDescriptor);
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        BytesHashSet keys = new BytesHashSet(values.length);
+        for (Item value : values)
+            keys.add(value.getBinaryValue());
+        return item -> keys.contains(item.getBinaryValue());
+    }
+
+    @Override
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        areLengthFacetsMoreRestrictive(typeDescriptor, checkedTypes);
     }
 
 
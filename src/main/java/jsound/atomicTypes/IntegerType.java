@@ -2,16 +2,23 @@ package jsound.atomicTypes;
 
 import org.api.TypeDescriptor;
 import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
-import jsound.atomicItems.IntegerItem;
+import jsound.exceptions.UnexpectedTypeException;
 import jsound.facets.AtomicFacets;
+import jsound.facets.EnumerationIndex;
+import jsound.facets.FacetCheck;
 import jsound.facets.FacetTypes;
+import jsound.facets.LongBounds;
+import jsound.facets.LongHashSet;
+import jsound.item.ItemFactory;
 import org.api.Item;
 import jsound.types.ItemTypes;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import static jsound.facets.FacetTypes.ENUMERATION;
 import static jsound.facets.FacetTypes.FRACTION_DIGITS;
 import static jsound.facets.FacetTypes.MAX_EXCLUSIVE;
 import static jsound.facets.FacetTypes.MAX_INCLUSIVE;
@@ -32,6 +39,10 @@ public class IntegerType extends AtomicTypeDescriptor {
             )
     );
 
+    private LongBounds longBounds = LongBounds.UNBOUNDED;
+    private int maxDigits = MAX_LONG_DIGITS;
+    private boolean validatesLongValues = false;
+
     public IntegerType(String name, AtomicFacets facets) {
         super(ItemTypes.INTEGER, name, facets);
     }
@@ -42,19 +53,76 @@ public class IntegerType extends AtomicTypeDescriptor {
 
     @Override
     public boolean validate(Item item, boolean isEnumValue) {
-        Integer integerValue;
+        Item integerItem;
         try {
-            if (item.isString())
-                integerValue = Integer.parseInt(item.getStringValue());
-            else
-                integerValue = item.getIntegerValue();
+            integerItem = getIntegerFromItem(item);
         } catch (NumberFormatException e) {
             return false;
         }
         if (this.getFacets() == null)
             return true;
-        item = new IntegerItem(integerValue);
-        return validateBoundariesFacets(item, isEnumValue) && validateDigitsFacets(item);
+        return validateFacets(integerItem, isEnumValue);
+    }
+
+    public boolean validate(long value) {
+        if (this.getFacets() == null)
+            return true;
+        if (!validatesLongValues)
+            return validate(ItemFactory.getInstance().createIntegerItem(value), false);
+        return longBounds.contains(value) && (maxDigits >= MAX_LONG_DIGITS || countDigits(value) <= maxDigits);
+    }
+
+    @Override
+    protected void compile() {
+        super.compile();
+        AtomicFacets facets = this.getFacets();
+        if (facets == null)
+            return;
+        this.longBounds = createLongBounds(
+            getInclusiveBound(facets, getLowerBoundFacet(facets)),
+            getInclusiveBound(facets, getUpperBoundFacet(facets))
+        );
+        this.maxDigits = facets.getDefinedFacets().contains(TOTAL_DIGITS) ? facets.totalDigits : MAX_LONG_DIGITS;
+        this.validatesLongValues = longBounds != null && !facets.getDefinedFacets().contains(ENUMERATION);
+    }
+
+    @Override
+    protected FacetCheck createBoundsCheck(AtomicFacets facets) {
+        BigInteger lowerBound = getInclusiveBound(facets, getLowerBoundFacet(facets));
+        BigInteger upperBound = getInclusiveBound(facets, getUpperBoundFacet(facets));
+        LongBounds bounds = createLongBounds(lowerBound, upperBound);
+        if (bounds == null)
+            return super.createBoundsCheck(facets);
+        if (lowerBound == null && upperBound == null)
+            return null;
+        return (item, isEnumValue) -> item.isBigInteger()
+            ? (lowerBound == null || item.getBigIntegerValue().compareTo(lowerBound) >= 0)
+                && (upperBound == null || item.getBigIntegerValue().compareTo(upperBound) <= 0)
+            : bounds.contains(item.getIntegerValue());
+    }
+
+    private static BigInteger getInclusiveBound(AtomicFacets facets, FacetTypes facetType) {
+        if (facetType == null)
+            return null;
+        BigInteger bound = getIntegerFromItem(getBound(facets, facetType)).getBigIntegerValue();
+        if (facetType == MIN_EXCLUSIVE)
+            return bound.add(BigInteger.ONE);
+        if (facetType == MAX_EXCLUSIVE)
+            return bound.subtract(BigInteger.ONE);
+        return bound;
+    }
+
+    private static LongBounds createLongBounds(BigInteger lowerBound, BigInteger upperBound) {
+        if (!fitsInLong(lowerBound) || !fitsInLong(upperBound))
+            return null;
+        return new LongBounds(
+                lowerBound == null ? Long.MIN_VALUE : lowerBound.longValue(),
+                upperBound == null ? Long.MAX_VALUE : upperBound.longValue()
+        );
+    }
+
+    private static boolean fitsInLong(BigInteger bound) {
+        return bound == null || bound.bitLength() < Long.SIZE;
     }
 
     @Override
@@ -63,23 +131,39 @@ public class IntegerType extends AtomicTypeDescriptor {
     }
 
     private static int compareIntegers(Item integerItem, Item constraint) {
-        return getIntegerFromItem(integerItem).compareTo(getIntegerFromItem(constraint));
+        integerItem = getIntegerFromItem(integerItem);
+        constraint = getIntegerFromItem(constraint);
+        if (integerItem.isBigInteger() || constraint.isBigInteger())
+            return integerItem.getBigIntegerValue().compareTo(constraint.getBigIntegerValue());
+        return Long.compare(integerItem.getIntegerValue(), constraint.getIntegerValue());
     }
 
     @Override
-    protected boolean validateItemAgainstEnumeration(Item item) {
-        Integer integerValue = item.getIntegerValue();
-        for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (integerValue.compareTo(getIntegerFromItem(enumItem)) == 0)
-                return true;
+    protected Item toValueSpace(Item item) {
+        return getIntegerFromItem(item);
+    }
+
+    @Override
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        LongHashSet longKeys = new LongHashSet(values.length);
+        Set<BigInteger> bigIntegerKeys = new HashSet<>();
+        for (Item value : values) {
+            if (value.isBigInteger())
+                bigIntegerKeys.add(value.getBigIntegerValue());
+            else
+                longKeys.add(value.getIntegerValue());
         }
-        return false;
+        return item -> item.isBigInteger()
+            ? bigIntegerKeys.contains(item.getBigIntegerValue())
+            : longKeys.contains(item.getIntegerValue());
     }
 
-    private static Integer getIntegerFromItem(Item item) {
-        return item.isString()
-            ? Integer.parseInt(item.getStringValue())
-            : item.getIntegerValue();
+    private static Item getIntegerFromItem(Item item) {
+        if (item.isString())
+            return ItemFactory.getInstance().createIntegerItem(new BigInteger(item.getStringValue()));
+        if (!item.isInteger())
+            throw new UnexpectedTypeException(item.getStringValue() + " does not have an integer.");
+        return item;
     }
 
     @Override
@@ -93,8 +177,8 @@ public class IntegerType extends AtomicTypeDescriptor {
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        checkBoundariesAndDigitsFacets(typeDescriptor);
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        checkBoundariesAndDigitsFacets(typeDescriptor, checkedTypes);
     }
 
     @Override
@@ -3,6 +3,7 @@ package jsound.atomicTypes;
 import org.api.TypeDescriptor;
 import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
 import jsound.facets.AtomicFacets;
+import jsound.facets.EnumerationIndex;
 import jsound.facets.FacetTypes;
 import org.api.Item;
 import jsound.types.ItemTypes;
@@ -30,23 +31,21 @@ public class StringType extends AtomicTypeDescriptor {
 
     @Override
     public boolean validate(Item item, boolean isEnumValue) {
-        return item.isString() && (this.getFacets() == null || validateLengthFacets(item, isEnumValue));
+        return item.isString() && (this.getFacets() == null || validateFacets(item, isEnumValue));
     }
 
 
     @Override
-    protected boolean validateItemAgainstEnumeration(Item item) {
-        String string = item.getStringValue();
-        for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (string.equals(enumItem.getStringValue()))
-                return true;
-        }
-        return false;
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        Set<String> keys = new HashSet<>();
+        for (Item value : values)
+            keys.add(value.getStringValue());
+        return item -> keys.contains(item.getStringValue());
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        areLengthFacetsMoreRestrictive(typeDescriptor);
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        areLengthFacetsMoreRestrictive(typeDescriptor, checkedTypes);
     }
 
 
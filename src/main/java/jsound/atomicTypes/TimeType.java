@@ -7,7 +7,10 @@ import org.joda.time.DateTimeZone;
 import org.joda.time.format.ISODateTimeFormat;
 import jsound.atomicItems.TimeItem;
 import jsound.facets.AtomicFacets;
+import jsound.facets.EnumerationIndex;
+import jsound.facets.FacetCheck;
 import jsound.facets.FacetTypes;
+import jsound.facets.LongHashSet;
 import org.api.Item;
 import jsound.types.ItemTypes;
 
@@ -46,7 +49,7 @@ public class TimeType extends AtomicTypeDescriptor {
         if (this.getFacets() == null)
             return true;
         item = new TimeItem(time);
-        if (!validateBoundariesFacets(item, isEnumValue))
+        if (!validateFacets(item, isEnumValue))
             return false;
         return !this.getFacets().getDefinedFacets().contains(EXPLICIT_TIMEZONE)
             || DateTimeType.checkExplicitTimezone(
@@ -57,13 +60,21 @@ public class TimeType extends AtomicTypeDescriptor {
     }
 
     @Override
-    protected boolean validateItemAgainstEnumeration(Item item) {
-        DateTime time = item.getDateTime();
-        for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (time.equals(getTimeFromItem(enumItem)))
-                return true;
-        }
-        return false;
+    protected Item toValueSpace(Item item) {
+        return new TimeItem(getTimeFromItem(item));
+    }
+
+    @Override
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        LongHashSet keys = new LongHashSet(values.length);
+        for (Item value : values)
+            keys.add(value.getDateTime().getMillis());
+        return item -> keys.contains(item.getDateTime().getMillis());
+    }
+
+    @Override
+    protected FacetCheck createBoundsCheck(AtomicFacets facets) {
+        return createEpochMillisBoundsCheck(facets, item -> getTimeFromItem(item).getMillis());
     }
 
     @Override
@@ -88,8 +99,8 @@ public class TimeType extends AtomicTypeDescriptor {
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        checkBoundariesAndTimezoneFacets(typeDescriptor);
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        checkBoundariesAndTimezoneFacets(typeDescriptor, checkedTypes);
     }
 
     @Override
@@ -9,10 +9,10 @@ import jsound.json.SchemaFileJsonParser;
 
 import java.io.IOException;
 
-import static org.api.executors.JSoundExecutor.jsonSchemaIterator;
-import static org.api.executors.JSoundExecutor.schema;
+import static jsound.json.SchemaContext.schemaIterator;
+import static jsound.json.SchemaContext.schemaTypes;
 import static jsound.facets.FacetTypes.CONTENT;
-import static jsound.json.CompactSchemaFileJsonParser.compactSchema;
+import static jsound.json.SchemaContext.compactSchemaTypes;
 import static jsound.json.CompactSchemaFileJsonParser.getTypeFromObject;
 
 public class ArrayFacets extends Facets {
@@ -45,14 +45,14 @@ public class ArrayFacets extends Facets {
 
     public void setArrayContentFromObject() throws IOException {
         int size = 0;
-        while (jsonSchemaIterator.readArray()) {
+        while (schemaIterator().readArray()) {
             if (size > 0)
                 throw new InvalidSchemaException("Can only specify one atomicTypes for the array content atomicTypes.");
-            if (jsonSchemaIterator.whatIsNext().equals(ValueType.STRING)) {
-                String contentType = jsonSchemaIterator.readString();
-                if (schema.containsKey(contentType))
+            if (schemaIterator().whatIsNext().equals(ValueType.STRING)) {
+                String contentType = schemaIterator().readString();
+                if (schemaTypes().containsKey(contentType))
                     this.arrayContent = new jsound.typedescriptors.array.ArrayContentDescriptor(
-                            new TypeOrReference(schema.get(contentType))
+                            new TypeOrReference(schemaTypes().get(contentType))
                     );
                 else
                     this.arrayContent = new jsound.typedescriptors.array.ArrayContentDescriptor(
@@ -71,14 +71,14 @@ public class ArrayFacets extends Facets {
     public void setArrayContent(String name) throws IOException {
         definedFacets.add(CONTENT);
         int size = 0;
-        while (jsonSchemaIterator.readArray()) {
+        while (schemaIterator().readArray()) {
             if (size > 0)
                 throw new InvalidSchemaException("Can only specify one content type for array type " + name + ".");
-            if (jsonSchemaIterator.whatIsNext().equals(ValueType.STRING)) {
-                String contentType = jsonSchemaIterator.readString();
-                if (compactSchema.containsKey(contentType))
+            if (schemaIterator().whatIsNext().equals(ValueType.STRING)) {
+                String contentType = schemaIterator().readString();
+                if (compactSchemaTypes().containsKey(contentType))
                     this.arrayContent = new jsound.typedescriptors.array.ArrayContentDescriptor(
-                            compactSchema.get(contentType)
+                            compactSchemaTypes().get(contentType)
                     );
                 else
                     this.arrayContent = new jsound.typedescriptors.array.ArrayContentDescriptor(
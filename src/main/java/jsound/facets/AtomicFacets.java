@@ -6,7 +6,7 @@ import org.api.Item;
 
 import java.io.IOException;
 
-import static org.api.executors.JSoundExecutor.jsonSchemaIterator;
+import static jsound.json.SchemaContext.schemaIterator;
 import static jsound.json.InstanceFileJsonParser.getItemFromObject;
 
 public class AtomicFacets extends Facets {
@@ -29,16 +29,16 @@ public class AtomicFacets extends Facets {
                 this.maxLength = getIntegerFromObject();
                 break;
             case MIN_INCLUSIVE:
-                this.minInclusive = getItemFromObject(jsonSchemaIterator);
+                this.minInclusive = getItemFromObject(schemaIterator());
                 break;
             case MAX_INCLUSIVE:
-                this.maxInclusive = getItemFromObject(jsonSchemaIterator);
+                this.maxInclusive = getItemFromObject(schemaIterator());
                 break;
             case MIN_EXCLUSIVE:
-                this.minExclusive = getItemFromObject(jsonSchemaIterator);
+                this.minExclusive = getItemFromObject(schemaIterator());
                 break;
             case MAX_EXCLUSIVE:
-                this.maxExclusive = getItemFromObject(jsonSchemaIterator);
+                this.maxExclusive = getItemFromObject(schemaIterator());
                 break;
             case TOTAL_DIGITS:
                 this.totalDigits = getIntegerFromObject();
@@ -60,8 +60,8 @@ public class AtomicFacets extends Facets {
     }
 
     protected static Integer getIntegerFromObject() throws IOException {
-        if (!jsonSchemaIterator.whatIsNext().equals(ValueType.NUMBER))
-            throw new UnexpectedTypeException("Invalid number " + jsonSchemaIterator.read().toString());
-        return jsonSchemaIterator.readInt();
+        if (!schemaIterator().whatIsNext().equals(ValueType.NUMBER))
+            throw new UnexpectedTypeException("Invalid number " + schemaIterator().read().toString());
+        return schemaIterator().readInt();
     }
 }
@@ -0,0 +1,31 @@
+package jsound.facets;
+
+import java.util.Arrays;
+
+public class BytesHashSet {
+
+    private final byte[][] _keys;
+    private final int _mask;
+
+    public BytesHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(1, expectedSize)) << 2;
+        this._keys = new byte[capacity][];
+        this._mask = capacity - 1;
+    }
+
+    public void add(byte[] key) {
+        _keys[slotOf(key)] = key;
+    }
+
+    public boolean contains(byte[] key) {
+        return _keys[slotOf(key)] != null;
+    }
+
+    private int slotOf(byte[] key) {
+        int hash = Arrays.hashCode(key) * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & _mask;
+        while (_keys[slot] != null && !Arrays.equals(_keys[slot], key))
+            slot = (slot + 1) & _mask;
+        return slot;
+    }
+}
@@ -0,0 +1,37 @@
+package jsound.facets;
+
+import java.math.BigDecimal;
+
+public class DecimalBounds {
+
+    public static final DecimalBounds UNBOUNDED = new DecimalBounds(null, 0, null, 0);
+
+    private final BigDecimal _lower;
+    private final int _lowerLimit;
+    private final BigDecimal _upper;
+    private final int _upperLimit;
+
+    private DecimalBounds(BigDecimal lower, int lowerLimit, BigDecimal upper, int upperLimit) {
+        this._lower = lower;
+        this._lowerLimit = lowerLimit;
+        this._upper = upper;
+        this._upperLimit = upperLimit;
+    }
+
+    public DecimalBounds withLower(BigDecimal lower, boolean isExclusive) {
+        return new DecimalBounds(lower, isExclusive ? 1 : 0, _upper, _upperLimit);
+    }
+
+    public DecimalBounds withUpper(BigDecimal upper, boolean isExclusive) {
+        return new DecimalBounds(_lower, _lowerLimit, upper, isExclusive ? -1 : 0);
+    }
+
+    public boolean isUnbounded() {
+        return _lower == null && _upper == null;
+    }
+
+    public boolean contains(BigDecimal value) {
+        return (_lower == null || value.compareTo(_lower) >= _lowerLimit)
+            && (_upper == null || value.compareTo(_upper) <= _upperLimit);
+    }
+}
@@ -0,0 +1,30 @@
+package jsound.facets;
+
+public class DoubleBounds {
+
+    public static final DoubleBounds UNBOUNDED = new DoubleBounds(0, -1, 0, 1);
+
+    private final double _lower;
+    private final int _lowerLimit;
+    private final double _upper;
+    private final int _upperLimit;
+
+    private DoubleBounds(double lower, int lowerLimit, double upper, int upperLimit) {
+        this._lower = lower;
+        this._lowerLimit = lowerLimit;
+        this._upper = upper;
+        this._upperLimit = upperLimit;
+    }
+
+    public DoubleBounds withLower(double lower, boolean isExclusive) {
+        return new DoubleBounds(lower, isExclusive ? 1 : 0, _upper, _upperLimit);
+    }
+
+    public DoubleBounds withUpper(double upper, boolean isExclusive) {
+        return new DoubleBounds(_lower, _lowerLimit, upper, isExclusive ? -1 : 0);
+    }
+
+    public boolean contains(double value) {
+        return Double.compare(value, _lower) >= _lowerLimit && Double.compare(value, _upper) <= _upperLimit;
+    }
+}
@@ -0,0 +1,7 @@
+package jsound.facets;
+
+import org.api.Item;
+
+public interface EnumerationIndex {
+    boolean contains(Item item);
+}
@@ -0,0 +1,7 @@
+package jsound.facets;
+
+import org.api.Item;
+
+public interface FacetCheck {
+    boolean test(Item item, boolean isEnumValue);
+}
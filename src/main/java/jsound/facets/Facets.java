@@ -15,7 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import static org.api.executors.JSoundExecutor.jsonSchemaIterator;
+import static jsound.json.SchemaContext.schemaIterator;
 import static jsound.json.InstanceFileJsonParser.getItemFromObject;
 
 public class Facets {
@@ -33,7 +33,7 @@ public class Facets {
                 setEnumerationFromObject();
                 break;
             case METADATA:
-                this.metadata = getItemFromObject(jsonSchemaIterator);
+                this.metadata = getItemFromObject(schemaIterator());
                 break;
             case CONSTRAINTS:
                 this.constraints = getConstraintsTypeFromObject();
@@ -56,29 +56,29 @@ public class Facets {
     }
 
     public static String getStringFromObject(String key) throws IOException {
-        if (!jsonSchemaIterator.whatIsNext().equals(ValueType.STRING))
+        if (!schemaIterator().whatIsNext().equals(ValueType.STRING))
             throw new UnexpectedTypeException(
                     key
                         + " should be a string; "
-                        + jsonSchemaIterator.whatIsNext().name().toLowerCase()
+                        + schemaIterator().whatIsNext().name().toLowerCase()
                         + " was provided instead."
             );
-        return jsonSchemaIterator.readString();
+        return schemaIterator().readString();
     }
 
     private void setEnumerationFromObject() throws IOException {
-        if (!jsonSchemaIterator.whatIsNext().equals(ValueType.ARRAY))
+        if (!schemaIterator().whatIsNext().equals(ValueType.ARRAY))
             throw new UnexpectedTypeException("Enumeration should be an array.");
-        while (jsonSchemaIterator.readArray()) {
-            this.enumeration.add(getItemFromObject(jsonSchemaIterator));
+        while (schemaIterator().readArray()) {
+            this.enumeration.add(getItemFromObject(schemaIterator()));
         }
     }
 
     private static List<String> getConstraintsTypeFromObject() throws IOException {
-        if (!jsonSchemaIterator.whatIsNext().equals(ValueType.ARRAY))
+        if (!schemaIterator().whatIsNext().equals(ValueType.ARRAY))
             throw new UnexpectedTypeException("Constraints should be an array.");
         List<String> constraints = new ArrayList<>();
-        while (jsonSchemaIterator.readArray()) {
+        while (schemaIterator().readArray()) {
             constraints.add(getStringFromObject("Each constraint"));
         }
         return constraints;
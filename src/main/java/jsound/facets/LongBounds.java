@@ -0,0 +1,18 @@
+package jsound.facets;
+
+public class LongBounds {
+
+    public static final LongBounds UNBOUNDED = new LongBounds(Long.MIN_VALUE, Long.MAX_VALUE);
+
+    private final long _lower;
+    private final long _upper;
+
+    public LongBounds(long lower, long upper) {
+        this._lower = lower;
+        this._upper = upper;
+    }
+
+    public boolean contains(long value) {
+        return value >= _lower && value <= _upper;
+    }
+}
@@ -0,0 +1,33 @@
+package jsound.facets;
+
+public class LongHashSet {
+
+    private final long[] _keys;
+    private final boolean[] _used;
+    private final int _mask;
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(1, expectedSize)) << 2;
+        this._keys = new long[capacity];
+        this._used = new boolean[capacity];
+        this._mask = capacity - 1;
+    }
+
+    public void add(long key) {
+        int slot = slotOf(key);
+        _keys[slot] = key;
+        _used[slot] = true;
+    }
+
+    public boolean contains(long key) {
+        return _used[slotOf(key)];
+    }
+
+    private int slotOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash ^ (hash >>> 32)) & _mask;
+        while (_used[slot] && _keys[slot] != key)
+            slot = (slot + 1) & _mask;
+        return slot;
+    }
+}
@@ -0,0 +1,36 @@
+package jsound.facets;
+
+public class LongPairHashSet {
+
+    private final long[] _firstKeys;
+    private final long[] _secondKeys;
+    private final boolean[] _used;
+    private final int _mask;
+
+    public LongPairHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(1, expectedSize)) << 2;
+        this._firstKeys = new long[capacity];
+        this._secondKeys = new long[capacity];
+        this._used = new boolean[capacity];
+        this._mask = capacity - 1;
+    }
+
+    public void add(long first, long second) {
+        int slot = slotOf(first, second);
+        _firstKeys[slot] = first;
+        _secondKeys[slot] = second;
+        _used[slot] = true;
+    }
+
+    public boolean contains(long first, long second) {
+        return _used[slotOf(first, second)];
+    }
+
+    private int slotOf(long first, long second) {
+        long hash = (first * 31 + second) * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash ^ (hash >>> 32)) & _mask;
+        while (_used[slot] && (_firstKeys[slot] != first || _secondKeys[slot] != second))
+            slot = (slot + 1) & _mask;
+        return slot;
+    }
+}
@@ -12,8 +12,8 @@ import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
-import static org.api.executors.JSoundExecutor.jsonSchemaIterator;
-import static org.api.executors.JSoundExecutor.schema;
+import static jsound.json.SchemaContext.schemaIterator;
+import static jsound.json.SchemaContext.schemaTypes;
 import static jsound.json.InstanceFileJsonParser.getItemFromObject;
 
 public class ObjectFacets extends Facets {
@@ -43,9 +43,9 @@ public class ObjectFacets extends Facets {
 
     private void setObjectContentFromObject(String typeName) throws IOException {
         String key;
-        while (jsonSchemaIterator.readArray()) {
+        while (schemaIterator().readArray()) {
             FieldDescriptor fieldDescriptor = new FieldDescriptor();
-            while ((key = jsonSchemaIterator.readObject()) != null) {
+            while ((key = schemaIterator().readObject()) != null) {
                 switch (key) {
                     case "name":
                         String name = getStringFromObject("name");
@@ -63,7 +63,7 @@ public class ObjectFacets extends Facets {
                         fieldDescriptor.setUnique(getBooleanFromObject());
                         break;
                     case "default":
-                        fieldDescriptor.setDefaultValue(getItemFromObject(jsonSchemaIterator));
+                        fieldDescriptor.setDefaultValue(getItemFromObject(schemaIterator()));
                         break;
                     default:
                         throw new InvalidSchemaException(key + " is not a valid property for the field descriptor.");
@@ -79,13 +79,13 @@ public class ObjectFacets extends Facets {
     }
 
     private static void setFieldDescriptorType(FieldDescriptor fieldDescriptor) throws IOException {
-        if (jsonSchemaIterator.whatIsNext().equals(ValueType.STRING)) {
-            String fieldType = jsonSchemaIterator.readString();
-            if (schema.containsKey(fieldType))
-                fieldDescriptor.setType(new TypeOrReference(schema.get(fieldType)));
+        if (schemaIterator().whatIsNext().equals(ValueType.STRING)) {
+            String fieldType = schemaIterator().readString();
+            if (schemaTypes().containsKey(fieldType))
+                fieldDescriptor.setType(new TypeOrReference(schemaTypes().get(fieldType)));
             else
                 fieldDescriptor.setType(new TypeOrReference(fieldType));
-        } else if (!jsonSchemaIterator.whatIsNext().equals(ValueType.OBJECT))
+        } else if (!schemaIterator().whatIsNext().equals(ValueType.OBJECT))
             throw new InvalidSchemaException("Type for field descriptors must be either string or object.");
         else
             fieldDescriptor.setType(new TypeOrReference(SchemaFileJsonParser.getTypeDescriptor(true)));
@@ -105,8 +105,8 @@ public class ObjectFacets extends Facets {
     }
 
     public static boolean getBooleanFromObject() throws IOException {
-        if (!jsonSchemaIterator.whatIsNext().equals(ValueType.BOOLEAN))
-            throw new UnexpectedTypeException("Invalid string " + jsonSchemaIterator.read().toString());
-        return jsonSchemaIterator.readBoolean();
+        if (!schemaIterator().whatIsNext().equals(ValueType.BOOLEAN))
+            throw new UnexpectedTypeException("Invalid string " + schemaIterator().read().toString());
+        return schemaIterator().readBoolean();
     }
 }
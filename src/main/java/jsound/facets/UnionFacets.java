@@ -7,9 +7,9 @@ import jsound.json.SchemaFileJsonParser;
 
 import java.io.IOException;
 
-import static org.api.executors.JSoundExecutor.jsonSchemaIterator;
-import static org.api.executors.JSoundExecutor.schema;
-import static jsound.json.CompactSchemaFileJsonParser.compactSchema;
+import static jsound.json.SchemaContext.schemaIterator;
+import static jsound.json.SchemaContext.schemaTypes;
+import static jsound.json.SchemaContext.compactSchemaTypes;
 
 public class UnionFacets extends Facets {
     private UnionContentDescriptor unionContent = new UnionContentDescriptor();
@@ -30,11 +30,11 @@ public class UnionFacets extends Facets {
     }
 
     private void setUnionContentFromObject() throws IOException {
-        while (jsonSchemaIterator.readArray()) {
-            if (jsonSchemaIterator.whatIsNext().equals(ValueType.STRING)) {
-                String type = jsonSchemaIterator.readString();
-                if (schema.containsKey(type))
-                    unionContent.getTypes().add(new TypeOrReference(schema.get(type)));
+        while (schemaIterator().readArray()) {
+            if (schemaIterator().whatIsNext().equals(ValueType.STRING)) {
+                String type = schemaIterator().readString();
+                if (schemaTypes().containsKey(type))
+                    unionContent.getTypes().add(new TypeOrReference(schemaTypes().get(type)));
                 else
                     unionContent.getTypes().add(new TypeOrReference(type));
             } else
@@ -45,8 +45,8 @@ public class UnionFacets extends Facets {
     public void setUnionContent(String unionContentString) {
         String[] unionTypes = unionContentString.split("\\|");
         for (String type : unionTypes) {
-            if (compactSchema.containsKey(type))
-                unionContent.getTypes().add(compactSchema.get(type));
+            if (compactSchemaTypes().containsKey(type))
+                unionContent.getTypes().add(compactSchemaTypes().get(type));
             else
                 unionContent.getTypes().add(new TypeOrReference(type));
         }
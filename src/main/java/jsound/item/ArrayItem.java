@@ -7,7 +7,7 @@ import java.util.List;
 
 public class ArrayItem extends Item {
 
-    private List<Item> _items;
+    private final List<Item> _items;
 
     ArrayItem(List<Item> items) {
         super();
@@ -30,7 +30,7 @@ public class ArrayItem extends Item {
         boolean first = true;
         sb.append('[');
         TYSONObject.newLineIncreaseCounter(sb);
-        for (Item item : _items) {
+        for (Item item : getItems()) {
             if (first) {
                 first = false;
             } else {
@@ -46,8 +46,9 @@ public class ArrayItem extends Item {
 
 
     public int hashCode() {
-        int result = _items.size();
-        for (Item item : _items) {
+        List<Item> items = getItems();
+        int result = items.size();
+        for (Item item : items) {
             result += item.hashCode();
         }
         return result;
@@ -0,0 +1,49 @@
+package jsound.item;
+
+import org.api.Item;
+
+import java.math.BigDecimal;
+
+public class DecimalArrayItem extends PrimitiveArrayItem {
+
+    private final long[] _unscaledValues;
+    private final int[] _scales;
+
+    DecimalArrayItem(long[] unscaledValues, int[] scales) {
+        super();
+        this._unscaledValues = unscaledValues;
+        this._scales = scales;
+    }
+
+    public long getUnscaledValue(int index) {
+        return _unscaledValues[index];
+    }
+
+    public int getScale(int index) {
+        return _scales[index];
+    }
+
+    public BigDecimal getDecimalValue(int index) {
+        return BigDecimal.valueOf(_unscaledValues[index], _scales[index]);
+    }
+
+    @Override
+    public int size() {
+        return _unscaledValues.length;
+    }
+
+    @Override
+    public Item getItem(int index) {
+        return ItemFactory.getInstance().createDecimalItem(getDecimalValue(index));
+    }
+
+    @Override
+    public String getStringAnnotation(int index) {
+        return getDecimalValue(index).toPlainString();
+    }
+
+    @Override
+    protected int hashCode(int index) {
+        return getDecimalValue(index).hashCode();
+    }
+}
@@ -0,0 +1,38 @@
+package jsound.item;
+
+import org.api.Item;
+
+public class DoubleArrayItem extends PrimitiveArrayItem {
+
+    private final double[] _values;
+
+    DoubleArrayItem(double[] values) {
+        super();
+        this._values = values;
+    }
+
+    public double getDoubleValue(int index) {
+        return _values[index];
+    }
+
+    @Override
+    public int size() {
+        return _values.length;
+    }
+
+    @Override
+    public Item getItem(int index) {
+        return ItemFactory.getInstance().createDoubleItem(_values[index]);
+    }
+
+    @Override
+    public String getStringAnnotation(int index) {
+        double value = _values[index];
+        return !Double.isInfinite(value) && !Double.isNaN(value) ? Double.toString(value) : "null";
+    }
+
+    @Override
+    protected int hashCode(int index) {
+        return Double.hashCode(_values[index]);
+    }
+}
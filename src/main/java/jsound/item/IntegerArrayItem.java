@@ -0,0 +1,37 @@
+package jsound.item;
+
+import org.api.Item;
+
+public class IntegerArrayItem extends PrimitiveArrayItem {
+
+    private final long[] _values;
+
+    IntegerArrayItem(long[] values) {
+        super();
+        this._values = values;
+    }
+
+    public long getIntegerValue(int index) {
+        return _values[index];
+    }
+
+    @Override
+    public int size() {
+        return _values.length;
+    }
+
+    @Override
+    public Item getItem(int index) {
+        return ItemFactory.getInstance().createIntegerItem(_values[index]);
+    }
+
+    @Override
+    public String getStringAnnotation(int index) {
+        return Long.toString(_values[index]);
+    }
+
+    @Override
+    protected int hashCode(int index) {
+        return Long.hashCode(_values[index]);
+    }
+}
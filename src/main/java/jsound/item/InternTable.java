@@ -0,0 +1,80 @@
+package jsound.item;
+
+import org.api.Item;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class InternTable {
+
+    public static final int MAX_ENTRIES = 1 << 14;
+    public static final InternTable EMPTY = new InternTable(0);
+
+    private final byte[][] _keys;
+    private final String[] _names;
+    private final Item[] _items;
+    private final int _mask;
+    private int _size = 0;
+
+    public InternTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(1, Math.min(expectedSize, MAX_ENTRIES))) << 2;
+        this._keys = new byte[capacity][];
+        this._names = new String[capacity];
+        this._items = new Item[capacity];
+        this._mask = capacity - 1;
+    }
+
+    public boolean addFieldName(String name) {
+        return add(name, null);
+    }
+
+    public boolean addString(Item item) {
+        return add(item.getStringValue(), item);
+    }
+
+    private boolean add(String value, Item item) {
+        byte[] key = value.getBytes(StandardCharsets.UTF_8);
+        int slot = findSlot(key, 0, key.length);
+        if (_keys[slot] == null) {
+            if (_size == MAX_ENTRIES || 2 * (_size + 1) > _keys.length)
+                return false;
+            _keys[slot] = key;
+            _names[slot] = value;
+            _size++;
+        }
+        if (_items[slot] == null)
+            _items[slot] = item;
+        return true;
+    }
+
+    public String getFieldName(byte[] buffer, int start, int end) {
+        if (_size == 0)
+            return null;
+        return _names[findSlot(buffer, start, end)];
+    }
+
+    public Item getStringItem(byte[] buffer, int start, int end) {
+        if (_size == 0)
+            return null;
+        return _items[findSlot(buffer, start, end)];
+    }
+
+    public int size() {
+        return _size;
+    }
+
+    private int findSlot(byte[] buffer, int start, int end) {
+        int slot = hash(buffer, start, end) & _mask;
+        byte[] key;
+        while ((key = _keys[slot]) != null && !Arrays.equals(key, 0, key.length, buffer, start, end))
+            slot = (slot + 1) & _mask;
+        return slot;
+    }
+
+    private static int hash(byte[] buffer, int start, int end) {
+        int hash = 0x811c9dc5;
+        for (int index = start; index < end; index++)
+            hash = (hash ^ buffer[index]) * 0x01000193;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,189 @@
+package jsound.item;
+
+import jsound.atomicItems.DecimalItem;
+import jsound.atomicItems.DoubleItem;
+import jsound.atomicItems.IntegerItem;
+import jsound.atomicItems.StringItem;
+import org.api.Item;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class ItemArena {
+
+    private static final int MAX_POOLED_ITEMS = 4096;
+    private static final int MAX_RETAINED_ENTRIES = 256;
+    private static final ThreadLocal<ItemArena> _arenas = ThreadLocal.withInitial(ItemArena::new);
+
+    private final Deque<InternTable> _outerInternTables = new ArrayDeque<>();
+    private InternTable _internTable = InternTable.EMPTY;
+    private final Pool<PooledStringItem> _stringItems = new Pool<>(PooledStringItem::new, PooledStringItem::release);
+    private final Pool<PooledIntegerItem> _integerItems =
+        new Pool<>(PooledIntegerItem::new, PooledIntegerItem::release);
+    private final Pool<PooledDecimalItem> _decimalItems =
+        new Pool<>(PooledDecimalItem::new, PooledDecimalItem::release);
+    private final Pool<PooledDoubleItem> _doubleItems = new Pool<>(PooledDoubleItem::new, PooledDoubleItem::release);
+    private final Pool<PooledObjectItem> _objectItems = new Pool<>(PooledObjectItem::new, PooledObjectItem::release);
+    private final Pool<PooledArrayItem> _arrayItems = new Pool<>(PooledArrayItem::new, PooledArrayItem::release);
+    private final Pool<HashMap<String, Item>> _itemMaps = new Pool<>(HashMap::new, ItemArena::releaseItemMap);
+    private final Pool<ArrayList<Item>> _itemLists = new Pool<>(ArrayList::new, ItemArena::releaseItemList);
+    private final List<Pool<?>> _pools = List.of(
+        _stringItems,
+        _integerItems,
+        _decimalItems,
+        _doubleItems,
+        _objectItems,
+        _arrayItems,
+        _itemMaps,
+        _itemLists
+    );
+
+    private ItemArena() {
+    }
+
+    public static void open(InternTable internTable) {
+        ItemArena arena = _arenas.get();
+        for (Pool<?> pool : arena._pools)
+            pool.open();
+        arena._outerInternTables.push(arena._internTable);
+        arena._internTable = internTable;
+    }
+
+    public static void close() {
+        ItemArena arena = _arenas.get();
+        if (arena._outerInternTables.isEmpty())
+            throw new IllegalStateException("No item arena is open on this thread.");
+        boolean outermost = arena._outerInternTables.size() == 1;
+        for (Pool<?> pool : arena._pools)
+            pool.close(outermost);
+        arena._internTable = arena._outerInternTables.pop();
+    }
+
+    static IllegalStateException releasedItem() {
+        return new IllegalStateException("An item was used after the arena that created it was closed.");
+    }
+
+    static ItemArena current() {
+        ItemArena arena = _arenas.get();
+        return arena._outerInternTables.isEmpty() ? null : arena;
+    }
+
+    public static InternTable internTable() {
+        return _arenas.get()._internTable;
+    }
+
+    InternTable getInternTable() {
+        return _internTable;
+    }
+
+    Item createStringItem(String value) {
+        PooledStringItem item = _stringItems.next();
+        return item == null ? new StringItem(value) : item.acquire(value);
+    }
+
+    Item createStringItem(byte[] buffer, int start, int end) {
+        PooledStringItem item = _stringItems.next();
+        return item == null ? new StringItem(buffer, start, end) : item.acquire(buffer, start, end);
+    }
+
+    Item createIntegerItem(long value) {
+        PooledIntegerItem item = _integerItems.next();
+        return item == null ? new IntegerItem(value) : item.acquire(value);
+    }
+
+    Item createDecimalItem(BigDecimal value) {
+        PooledDecimalItem item = _decimalItems.next();
+        return item == null ? new DecimalItem(value) : item.acquire(value);
+    }
+
+    Item createDoubleItem(Double value) {
+        PooledDoubleItem item = _doubleItems.next();
+        return item == null ? new DoubleItem(value) : item.acquire(value);
+    }
+
+    Item createObjectItem(Map<String, Item> itemMap) {
+        PooledObjectItem item = _objectItems.next();
+        return item == null ? new ObjectItem(itemMap) : item.acquire(itemMap);
+    }
+
+    Item createArrayItem(List<Item> items) {
+        PooledArrayItem item = _arrayItems.next();
+        return item == null ? new ArrayItem(items) : item.acquire(items);
+    }
+
+    Map<String, Item> createItemMap() {
+        HashMap<String, Item> itemMap = _itemMaps.next();
+        if (itemMap == null)
+            return new HashMap<>();
+        itemMap.clear();
+        return itemMap;
+    }
+
+    List<Item> createItemList() {
+        ArrayList<Item> itemList = _itemLists.next();
+        if (itemList == null)
+            return new ArrayList<>();
+        itemList.clear();
+        return itemList;
+    }
+
+    private static boolean releaseItemMap(Map<String, Item> itemMap) {
+        boolean retain = itemMap.size() <= MAX_RETAINED_ENTRIES;
+        itemMap.clear();
+        return retain;
+    }
+
+    private static boolean releaseItemList(List<Item> itemList) {
+        boolean retain = itemList.size() <= MAX_RETAINED_ENTRIES;
+        itemList.clear();
+        return retain;
+    }
+
+    private static class Pool<T> {
+        private final Supplier<T> supplier;
+        private final Predicate<T> releaser;
+        private final List<T> items = new ArrayList<>();
+        private int used = 0;
+        private int[] marks = new int[4];
+        private int depth = 0;
+
+        private Pool(Supplier<T> supplier, Predicate<T> releaser) {
+            this.supplier = supplier;
+            this.releaser = releaser;
+        }
+
+        private T next() {
+            if (used == items.size()) {
+                if (items.size() == MAX_POOLED_ITEMS)
+                    return null;
+                items.add(supplier.get());
+            }
+            return items.get(used++);
+        }
+
+        private void open() {
+            if (depth == marks.length)
+                marks = Arrays.copyOf(marks, depth * 2);
+            marks[depth++] = used;
+        }
+
+        private void close(boolean outermost) {
+            int mark = marks[--depth];
+            for (int index = mark; index < used; index++) {
+                if (!releaser.test(items.get(index)))
+                    items.set(index, supplier.get());
+            }
+            if (outermost && items.size() > MAX_RETAINED_ENTRIES && used <= MAX_RETAINED_ENTRIES)
+                items.subList(MAX_RETAINED_ENTRIES, items.size()).clear();
+            used = mark;
+        }
+    }
+}
@@ -1,48 +1,80 @@
 package jsound.item;
 
+import jsound.atomicItems.BigIntegerItem;
 import jsound.atomicItems.BooleanItem;
 import jsound.atomicItems.DecimalItem;
 import jsound.atomicItems.DoubleItem;
 import jsound.atomicItems.IntegerItem;
 import jsound.atomicItems.NullItem;
 import jsound.atomicItems.StringItem;
+import jsound.json.InstanceTape;
 import org.api.Item;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class ItemFactory {
 
-    private static ItemFactory _instance;
-    private Item _nullItem;
-    private Item _trueBooleanItem;
-    private Item _falseBooleanItem;
+    private static final int MIN_CACHED_INTEGER = -128;
+    private static final int MAX_CACHED_INTEGER = 1023;
+    private static final ItemFactory _instance = new ItemFactory();
+    private final Item _nullItem = new NullItem();
+    private final Item _trueBooleanItem = new BooleanItem(true);
+    private final Item _falseBooleanItem = new BooleanItem(false);
+    private final Item _emptyStringItem = new StringItem("");
+    private final Item[] _integerItems = new Item[MAX_CACHED_INTEGER - MIN_CACHED_INTEGER + 1];
+
+    private ItemFactory() {
+        for (int index = 0; index < _integerItems.length; index++)
+            _integerItems[index] = new IntegerItem(index + MIN_CACHED_INTEGER);
+    }
 
     public static ItemFactory getInstance() {
-        if (_instance == null) {
-            _instance = new ItemFactory();
-            _instance._nullItem = new NullItem();
-            _instance._trueBooleanItem = new BooleanItem(true);
-            _instance._falseBooleanItem = new BooleanItem(false);
-        }
         return _instance;
     }
 
     public Item createStringItem(String stringValue) {
-        return new StringItem(stringValue);
+        if (stringValue.isEmpty())
+            return _emptyStringItem;
+        ItemArena arena = ItemArena.current();
+        return arena == null ? new StringItem(stringValue) : arena.createStringItem(stringValue);
     }
 
-    public Item createIntegerItem(Integer integerValue) {
-        return new IntegerItem(integerValue);
+    public Item createStringItem(byte[] buffer, int start, int end) {
+        if (start == end)
+            return _emptyStringItem;
+        ItemArena arena = ItemArena.current();
+        if (arena == null)
+            return new StringItem(buffer, start, end);
+        Item canonicalItem = arena.getInternTable().getStringItem(buffer, start, end);
+        return canonicalItem != null ? canonicalItem : arena.createStringItem(buffer, start, end);
+    }
+
+    public Item createIntegerItem(long integerValue) {
+        if (integerValue >= MIN_CACHED_INTEGER && integerValue <= MAX_CACHED_INTEGER)
+            return _integerItems[(int) integerValue - MIN_CACHED_INTEGER];
+        ItemArena arena = ItemArena.current();
+        return arena == null ? new IntegerItem(integerValue) : arena.createIntegerItem(integerValue);
+    }
+
+    public Item createIntegerItem(BigInteger integerValue) {
+        return integerValue.bitLength() < Long.SIZE
+            ? createIntegerItem(integerValue.longValue())
+            : new BigIntegerItem(integerValue);
     }
 
     public Item createDecimalItem(BigDecimal decimalValue) {
-        return new DecimalItem(decimalValue);
+        ItemArena arena = ItemArena.current();
+        return arena == null ? new DecimalItem(decimalValue) : arena.createDecimalItem(decimalValue);
     }
 
     public Item createDoubleItem(Double doubleValue) {
-        return new DoubleItem(doubleValue);
+        ItemArena arena = ItemArena.current();
+        return arena == null ? new DoubleItem(doubleValue) : arena.createDoubleItem(doubleValue);
     }
 
     public Item createBooleanItem(boolean booleanValue) {
@@ -54,10 +86,38 @@ public class ItemFactory {
     }
 
     public Item createObjectItem(Map<String, Item> itemMap) {
-        return new ObjectItem(itemMap);
+        ItemArena arena = ItemArena.current();
+        return arena == null ? new ObjectItem(itemMap) : arena.createObjectItem(itemMap);
+    }
+
+    public Item createObjectItem(ObjectShape shape, InstanceTape tape, int[] valueIndexes) {
+        return new ShapedObjectItem(shape, tape, valueIndexes);
     }
 
     public Item createArrayItem(List<Item> values) {
-        return new ArrayItem(values);
+        ItemArena arena = ItemArena.current();
+        return arena == null ? new ArrayItem(values) : arena.createArrayItem(values);
+    }
+
+    public Item createArrayItem(long[] values) {
+        return new IntegerArrayItem(values);
+    }
+
+    public Item createArrayItem(double[] values) {
+        return new DoubleArrayItem(values);
+    }
+
+    public Item createArrayItem(long[] unscaledValues, int[] scales) {
+        return new DecimalArrayItem(unscaledValues, scales);
+    }
+
+    public Map<String, Item> createItemMap() {
+        ItemArena arena = ItemArena.current();
+        return arena == null ? new HashMap<>() : arena.createItemMap();
+    }
+
+    public List<Item> createItemList() {
+        ItemArena arena = ItemArena.current();
+        return arena == null ? new ArrayList<>() : arena.createItemList();
     }
 }
@@ -0,0 +1,34 @@
+package jsound.item;
+
+import jsound.json.InstanceTape;
+import org.api.Item;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+public class LazyItemList extends AbstractList<Item> implements RandomAccess {
+
+    private final InstanceTape _tape;
+    private final int[] _indexes;
+    private final Item[] _items;
+
+    public LazyItemList(InstanceTape tape, int[] indexes) {
+        this._tape = tape;
+        this._indexes = indexes;
+        this._items = new Item[indexes.length];
+    }
+
+    @Override
+    public Item get(int index) {
+        if (index < 0 || index >= _items.length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _items.length);
+        if (_items[index] == null)
+            _items[index] = _tape.getItem(_indexes[index]);
+        return _items[index];
+    }
+
+    @Override
+    public int size() {
+        return _items.length;
+    }
+}
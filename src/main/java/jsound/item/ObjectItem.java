@@ -6,7 +6,7 @@ import org.api.Item;
 import java.util.Map;
 
 public class ObjectItem extends Item {
-    private Map<String, Item> _itemMap;
+    private final Map<String, Item> _itemMap;
 
     ObjectItem(Map<String, Item> itemMap) {
         this._itemMap = itemMap;
@@ -28,14 +28,15 @@ public class ObjectItem extends Item {
         StringBuilder sb = new StringBuilder();
         sb.append('{');
         TYSONObject.newLineIncreaseCounter(sb);
-        for (String key : _itemMap.keySet()) {
+        Map<String, Item> itemMap = getItemMap();
+        for (String key : itemMap.keySet()) {
             if (first) {
                 first = false;
             } else {
                 sb.append(", ");
                 TYSONObject.newLine(sb);
             }
-            sb.append("\"").append(key).append("\"").append(": ").append(_itemMap.get(key).getStringAnnotation());
+            sb.append("\"").append(key).append("\"").append(": ").append(itemMap.get(key).getStringAnnotation());
         }
         TYSONObject.newLineDecreaseCounter(sb);
         sb.append('}');
@@ -43,9 +44,10 @@ public class ObjectItem extends Item {
     }
 
     public int hashCode() {
-        int result = _itemMap.size();
-        for (String key : _itemMap.keySet()) {
-            result += +_itemMap.get(key).hashCode();
+        Map<String, Item> itemMap = getItemMap();
+        int result = itemMap.size();
+        for (String key : itemMap.keySet()) {
+            result += +itemMap.get(key).hashCode();
         }
         return result;
     }
@@ -0,0 +1,91 @@
+package jsound.item;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ObjectShape {
+
+    private static final int MAX_SHARED_KEYS = 64;
+    private static final int MAX_TRANSITIONS = 64;
+
+    private String[] _keys;
+    private int _size;
+    private final Map<String, Integer> _indexes;
+    private final Map<String, ObjectShape> _transitions;
+    private Map<String, ?> _layoutContent;
+    private int[] _layout;
+
+    private ObjectShape() {
+        this._keys = new String[0];
+        this._size = 0;
+        this._indexes = new HashMap<>();
+        this._transitions = new HashMap<>();
+    }
+
+    private ObjectShape(ObjectShape parent, String key, boolean shared) {
+        this._keys = Arrays.copyOf(parent._keys, shared ? parent._size + 1 : Math.max(8, 2 * parent._size));
+        this._size = parent._size;
+        this._indexes = new HashMap<>(parent._indexes);
+        this._transitions = shared ? new HashMap<>() : null;
+        append(key);
+    }
+
+    public static ObjectShape root() {
+        return new ObjectShape();
+    }
+
+    public ObjectShape withKey(String key) {
+        if (_transitions == null) {
+            append(key);
+            return this;
+        }
+        ObjectShape shape = _transitions.get(key);
+        if (shape != null)
+            return shape;
+        boolean shared = _size < MAX_SHARED_KEYS && _transitions.size() < MAX_TRANSITIONS;
+        shape = new ObjectShape(this, key, shared);
+        if (shared)
+            _transitions.put(key, shape);
+        return shape;
+    }
+
+    private void append(String key) {
+        if (_size == _keys.length)
+            _keys = Arrays.copyOf(_keys, Math.max(8, 2 * _size));
+        _keys[_size] = key;
+        _indexes.put(key, _size++);
+        _layoutContent = null;
+    }
+
+    public int indexOf(String key) {
+        Integer index = _indexes.get(key);
+        return index == null ? -1 : index;
+    }
+
+    public int[] indexesOf(Map<String, ?> content) {
+        if (_layoutContent != content) {
+            int[] indexes = new int[content.size()];
+            int position = 0;
+            for (String key : content.keySet())
+                indexes[position++] = indexOf(key);
+            _layout = indexes;
+            _layoutContent = content;
+        }
+        return _layout;
+    }
+
+    public String getKey(int index) {
+        return _keys[index];
+    }
+
+    public int size() {
+        return _size;
+    }
+
+    public List<String> getKeys() {
+        return Collections.unmodifiableList(Arrays.asList(_keys).subList(0, _size));
+    }
+}
@@ -0,0 +1,34 @@
+package jsound.item;
+
+import org.api.Item;
+
+import java.util.List;
+
+class PooledArrayItem extends ArrayItem {
+
+    private List<Item> _items;
+    private boolean _isReleased = true;
+
+    PooledArrayItem() {
+        super(null);
+    }
+
+    PooledArrayItem acquire(List<Item> items) {
+        this._items = items;
+        this._isReleased = false;
+        return this;
+    }
+
+    boolean release() {
+        this._items = null;
+        this._isReleased = true;
+        return true;
+    }
+
+    @Override
+    public List<Item> getItems() {
+        if (this._isReleased)
+            throw ItemArena.releasedItem();
+        return this._items;
+    }
+}
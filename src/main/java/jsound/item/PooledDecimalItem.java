@@ -0,0 +1,34 @@
+package jsound.item;
+
+import jsound.atomicItems.DecimalItem;
+
+import java.math.BigDecimal;
+
+class PooledDecimalItem extends DecimalItem {
+
+    private BigDecimal _value;
+    private boolean _isReleased = true;
+
+    PooledDecimalItem() {
+        super(null);
+    }
+
+    PooledDecimalItem acquire(BigDecimal value) {
+        this._value = value;
+        this._isReleased = false;
+        return this;
+    }
+
+    boolean release() {
+        this._value = null;
+        this._isReleased = true;
+        return true;
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() {
+        if (this._isReleased)
+            throw ItemArena.releasedItem();
+        return this._value;
+    }
+}
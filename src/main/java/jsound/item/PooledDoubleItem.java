@@ -0,0 +1,32 @@
+package jsound.item;
+
+import jsound.atomicItems.DoubleItem;
+
+class PooledDoubleItem extends DoubleItem {
+
+    private Double _value;
+    private boolean _isReleased = true;
+
+    PooledDoubleItem() {
+        super(null);
+    }
+
+    PooledDoubleItem acquire(Double value) {
+        this._value = value;
+        this._isReleased = false;
+        return this;
+    }
+
+    boolean release() {
+        this._value = null;
+        this._isReleased = true;
+        return true;
+    }
+
+    @Override
+    public Double getDoubleValue() {
+        if (this._isReleased)
+            throw ItemArena.releasedItem();
+        return this._value;
+    }
+}
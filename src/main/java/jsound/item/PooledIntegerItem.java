@@ -0,0 +1,31 @@
+package jsound.item;
+
+import jsound.atomicItems.IntegerItem;
+
+class PooledIntegerItem extends IntegerItem {
+
+    private long _value;
+    private boolean _isReleased = true;
+
+    PooledIntegerItem() {
+        super(0);
+    }
+
+    PooledIntegerItem acquire(long value) {
+        this._value = value;
+        this._isReleased = false;
+        return this;
+    }
+
+    boolean release() {
+        this._isReleased = true;
+        return true;
+    }
+
+    @Override
+    public long getIntegerValue() {
+        if (this._isReleased)
+            throw ItemArena.releasedItem();
+        return this._value;
+    }
+}
@@ -0,0 +1,34 @@
+package jsound.item;
+
+import org.api.Item;
+
+import java.util.Map;
+
+class PooledObjectItem extends ObjectItem {
+
+    private Map<String, Item> _itemMap;
+    private boolean _isReleased = true;
+
+    PooledObjectItem() {
+        super(null);
+    }
+
+    PooledObjectItem acquire(Map<String, Item> itemMap) {
+        this._itemMap = itemMap;
+        this._isReleased = false;
+        return this;
+    }
+
+    boolean release() {
+        this._itemMap = null;
+        this._isReleased = true;
+        return true;
+    }
+
+    @Override
+    public Map<String, Item> getItemMap() {
+        if (this._isReleased)
+            throw ItemArena.releasedItem();
+        return this._itemMap;
+    }
+}
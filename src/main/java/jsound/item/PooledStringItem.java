@@ -0,0 +1,61 @@
+package jsound.item;
+
+import jsound.atomicItems.StringItem;
+
+import java.nio.charset.StandardCharsets;
+
+class PooledStringItem extends StringItem {
+
+    private String _value;
+    private byte[] _buffer;
+    private int _start;
+    private int _end;
+    private boolean _isReleased = true;
+
+    PooledStringItem() {
+        super((String) null);
+    }
+
+    PooledStringItem acquire(String value) {
+        this._value = value;
+        this._buffer = null;
+        this._isReleased = false;
+        return this;
+    }
+
+    PooledStringItem acquire(byte[] buffer, int start, int end) {
+        this._value = null;
+        this._buffer = buffer;
+        this._start = start;
+        this._end = end;
+        this._isReleased = false;
+        return this;
+    }
+
+    boolean release() {
+        this._value = null;
+        this._buffer = null;
+        this._isReleased = true;
+        return true;
+    }
+
+    @Override
+    public String getStringValue() {
+        if (this._isReleased)
+            throw ItemArena.releasedItem();
+        if (this._buffer != null) {
+            this._value = new String(this._buffer, this._start, this._end - this._start, StandardCharsets.UTF_8);
+            this._buffer = null;
+        }
+        return this._value;
+    }
+
+    @Override
+    public int getStringLength() {
+        if (this._isReleased)
+            throw ItemArena.releasedItem();
+        if (this._buffer == null)
+            return this._value.codePointCount(0, this._value.length());
+        return getStringLength(this._buffer, this._start, this._end);
+    }
+}
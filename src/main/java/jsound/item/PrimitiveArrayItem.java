@@ -0,0 +1,68 @@
+package jsound.item;
+
+import jsound.tyson.TYSONObject;
+import org.api.Item;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+public abstract class PrimitiveArrayItem extends ArrayItem {
+
+    PrimitiveArrayItem() {
+        super(null);
+    }
+
+    public abstract int size();
+
+    public abstract Item getItem(int index);
+
+    public abstract String getStringAnnotation(int index);
+
+    protected abstract int hashCode(int index);
+
+    @Override
+    public List<Item> getItems() {
+        return new ItemView();
+    }
+
+    @Override
+    public String getStringAnnotation() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        TYSONObject.newLineIncreaseCounter(sb);
+        for (int index = 0; index < size(); index++) {
+            if (index > 0) {
+                sb.append(", ");
+                TYSONObject.newLine(sb);
+            }
+            sb.append(getStringAnnotation(index));
+        }
+        TYSONObject.newLineDecreaseCounter(sb);
+        sb.append(']');
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = size();
+        for (int index = 0; index < size(); index++) {
+            result += hashCode(index);
+        }
+        return result;
+    }
+
+    private class ItemView extends AbstractList<Item> implements RandomAccess {
+        @Override
+        public Item get(int index) {
+            if (index < 0 || index >= size())
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            return getItem(index);
+        }
+
+        @Override
+        public int size() {
+            return PrimitiveArrayItem.this.size();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package jsound.item;
+
+import jsound.json.InstanceTape;
+import org.api.Item;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+public class ShapedObjectItem extends ObjectItem {
+
+    private final ObjectShape _shape;
+    private final InstanceTape _tape;
+    private final int[] _valueIndexes;
+    private final Item[] _items;
+
+    ShapedObjectItem(ObjectShape shape, InstanceTape tape, int[] valueIndexes) {
+        super(null);
+        this._shape = shape;
+        this._tape = tape;
+        this._valueIndexes = valueIndexes;
+        this._items = new Item[shape.size()];
+    }
+
+    public ObjectShape getShape() {
+        return _shape;
+    }
+
+    public Item getItem(int index) {
+        if (_items[index] == null)
+            _items[index] = _tape.getItem(_valueIndexes[index]);
+        return _items[index];
+    }
+
+    @Override
+    public Map<String, Item> getItemMap() {
+        return new AbstractMap<>() {
+            @Override
+            public Item get(Object key) {
+                int index = key instanceof String ? _shape.indexOf((String) key) : -1;
+                return index < 0 ? null : getItem(index);
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return key instanceof String && _shape.indexOf((String) key) >= 0;
+            }
+
+            @Override
+            public int size() {
+                return _shape.size();
+            }
+
+            @Override
+            public Set<String> keySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<String> iterator() {
+                        return _shape.getKeys().iterator();
+                    }
+
+                    @Override
+                    public boolean contains(Object key) {
+                        return containsKey(key);
+                    }
+
+                    @Override
+                    public int size() {
+                        return _shape.size();
+                    }
+                };
+            }
+
+            @Override
+            public Set<Entry<String, Item>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, Item>> iterator() {
+                        return new Iterator<>() {
+                            private int index = 0;
+
+                            @Override
+                            public boolean hasNext() {
+                                return index < _shape.size();
+                            }
+
+                            @Override
+                            public Entry<String, Item> next() {
+                                if (!hasNext())
+                                    throw new NoSuchElementException();
+                                String key = _shape.getKey(index);
+                                return new SimpleImmutableEntry<>(key, getItem(index++));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return _shape.size();
+                    }
+                };
+            }
+        };
+    }
+}
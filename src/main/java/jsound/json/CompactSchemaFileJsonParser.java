@@ -21,32 +21,30 @@ import jsound.types.AtomicTypes;
 import jsound.item.ItemFactory;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
 
-import static org.api.executors.JSoundExecutor.jsonSchemaIterator;
-import static org.api.executors.JSoundExecutor.schema;
+import static jsound.json.SchemaContext.compactSchemaTypes;
+import static jsound.json.SchemaContext.schemaIterator;
+import static jsound.json.SchemaContext.schemaTypes;
 
 
 public class CompactSchemaFileJsonParser {
 
-    public static Map<String, TypeOrReference> compactSchema = new HashMap<>();
-
     public static void createSchema() {
 
         try {
-            if (!jsonSchemaIterator.whatIsNext().equals(ValueType.OBJECT)) {
+            if (!schemaIterator().whatIsNext().equals(ValueType.OBJECT)) {
                 throw new InvalidSchemaException("The schema root object must be a JSON object");
             }
 
             String typeName;
-            while ((typeName = jsonSchemaIterator.readObject()) != null) {
-                if (compactSchema.containsKey(typeName))
+            while ((typeName = schemaIterator().readObject()) != null) {
+                if (compactSchemaTypes().containsKey(typeName))
                     SchemaFileJsonParser.throwExistingTypeException(typeName);
-                compactSchema.put(typeName, getTypeFromObject(typeName));
+                compactSchemaTypes().put(typeName, getTypeFromObject(typeName));
             }
-            for (String key : compactSchema.keySet()) {
-                if (schema.get(key) == null)
+            for (String key : compactSchemaTypes().keySet()) {
+                if (schemaTypes().get(key) == null)
                     SchemaDefinitionUtils.resolveTypeDescriptors(key);
             }
         } catch (IOException e) {
@@ -56,9 +54,9 @@ public class CompactSchemaFileJsonParser {
 
     public static TypeOrReference getTypeFromObject(String name) throws IOException {
         try {
-            switch (jsonSchemaIterator.whatIsNext()) {
+            switch (schemaIterator().whatIsNext()) {
                 case STRING:
-                    return parseType(name, jsonSchemaIterator.readString());
+                    return parseType(name, schemaIterator().readString());
                 case OBJECT:
                     return new TypeOrReference(buildObjectType(name, new ObjectFacets()));
                 case ARRAY:
@@ -75,7 +73,7 @@ public class CompactSchemaFileJsonParser {
 
     private static ObjectTypeDescriptor buildObjectType(String name, ObjectFacets facets) throws IOException {
         String key;
-        while ((key = jsonSchemaIterator.readObject()) != null) {
+        while ((key = schemaIterator().readObject()) != null) {
             FieldDescriptor fieldDescriptor = new FieldDescriptor();
             boolean allowNull = setMarkers(fieldDescriptor, key);
             if (facets.getObjectContent().containsKey(fieldDescriptor.getName()))
@@ -103,13 +101,15 @@ public class CompactSchemaFileJsonParser {
     }
 
     private static void setFieldDescriptorType(FieldDescriptor fieldDescriptor) throws IOException {
-        if (jsonSchemaIterator.whatIsNext().equals(ValueType.STRING)) {
-            String fieldValue = jsonSchemaIterator.readString();
+        if (schemaIterator().whatIsNext().equals(ValueType.STRING)) {
+            String fieldValue = schemaIterator().readString();
             String fieldType = fieldValue.split("=")[0];
             if (fieldValue.contains("=")) {
                 try {
                     fieldDescriptor.setDefaultValue(
-                        InstanceFileJsonParser.getItemFromObject(JsonIterator.parse(fieldValue.split("=")[1]))
+                        InstanceFileJsonParser.getItemFromObject(
+                            JsonIterator.parse(fieldValue.split("=")[1].getBytes(StandardCharsets.UTF_8))
+                        )
                     );
                 } catch (JsoundException e) {
                     fieldDescriptor.setDefaultValue(
@@ -117,11 +117,11 @@ public class CompactSchemaFileJsonParser {
                     );
                 }
             }
-            if (compactSchema.containsKey(fieldType))
-                fieldDescriptor.setType(compactSchema.get(fieldType));
+            if (compactSchemaTypes().containsKey(fieldType))
+                fieldDescriptor.setType(compactSchemaTypes().get(fieldType));
             else
                 fieldDescriptor.setType(parseType(fieldDescriptor.name, fieldType));
-        } else if (!jsonSchemaIterator.whatIsNext().equals(ValueType.OBJECT))
+        } else if (!schemaIterator().whatIsNext().equals(ValueType.OBJECT))
             throw new InvalidSchemaException("Type for field descriptors must be either string or object.");
         else
             fieldDescriptor.setType(getTypeFromObject(fieldDescriptor.name));
@@ -151,8 +151,8 @@ public class CompactSchemaFileJsonParser {
                     AtomicTypeDescriptor.buildAtomicType(AtomicTypes.valueOf(typeString.toUpperCase()), name, false)
             );
         } catch (IllegalArgumentException e) {
-            if (compactSchema.containsKey(typeString))
-                return compactSchema.get(typeString);
+            if (compactSchemaTypes().containsKey(typeString))
+                return compactSchemaTypes().get(typeString);
             return new TypeOrReference(typeString);
         }
     }
@@ -0,0 +1,481 @@
+package jsound.json;
+
+import jsound.atomicItems.DecimalItem;
+import jsound.atomicItems.DoubleItem;
+import jsound.facets.ArrayFacets;
+import jsound.facets.AtomicFacets;
+import jsound.facets.FacetTypes;
+import jsound.facets.Facets;
+import jsound.facets.ObjectFacets;
+import jsound.facets.TimezoneFacet;
+import jsound.facets.UnionFacets;
+import jsound.item.ItemFactory;
+import jsound.typedescriptors.TypeOrReference;
+import jsound.typedescriptors.array.ArrayContentDescriptor;
+import jsound.typedescriptors.array.ArrayTypeDescriptor;
+import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
+import jsound.typedescriptors.object.FieldDescriptor;
+import jsound.typedescriptors.object.ObjectTypeDescriptor;
+import jsound.typedescriptors.union.UnionTypeDescriptor;
+import jsound.types.ItemTypes;
+import org.api.Item;
+import org.api.TypeDescriptor;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CompiledSchemaFormat {
+
+    private static final byte VALUE_TYPE = 0;
+    private static final byte ATOMIC_TYPE = 1;
+    private static final byte OBJECT_TYPE = 2;
+    private static final byte ARRAY_TYPE = 3;
+    private static final byte UNION_TYPE = 4;
+
+    private static final byte NULL_ITEM = 0;
+    private static final byte TRUE_ITEM = 1;
+    private static final byte FALSE_ITEM = 2;
+    private static final byte STRING_ITEM = 3;
+    private static final byte INTEGER_ITEM = 4;
+    private static final byte BIG_INTEGER_ITEM = 5;
+    private static final byte DECIMAL_ITEM = 6;
+    private static final byte DOUBLE_ITEM = 7;
+    private static final byte OBJECT_ITEM = 8;
+    private static final byte ARRAY_ITEM = 9;
+
+    private static final int NO_TYPE = -1;
+    private static final int UNRESOLVED_TYPE = -2;
+    private static final int NO_VALUE = -1;
+
+    private static final FacetTypes[] FACET_TYPES = FacetTypes.values();
+    private static final ItemTypes[] ITEM_TYPES = ItemTypes.values();
+    private static final TimezoneFacet[] TIMEZONES = TimezoneFacet.values();
+
+    public static void write(DataOutputStream output, Map<String, TypeDescriptor> types) throws IOException {
+        new Writer(output).write(types);
+    }
+
+    public static Map<String, TypeDescriptor> read(DataInputStream input) throws IOException {
+        return new Reader(input).read();
+    }
+
+    private static class Writer {
+        private final DataOutputStream output;
+        private final Map<TypeDescriptor, Integer> indexes = new IdentityHashMap<>();
+        private final List<TypeDescriptor> table = new ArrayList<>();
+
+        Writer(DataOutputStream output) {
+            this.output = output;
+        }
+
+        void write(Map<String, TypeDescriptor> types) throws IOException {
+            for (TypeDescriptor typeDescriptor : types.values())
+                indexOf(typeDescriptor);
+            for (int index = 0; index < table.size(); index++)
+                collectReferences(table.get(index));
+            output.writeInt(table.size());
+            for (TypeDescriptor typeDescriptor : table)
+                writeType(typeDescriptor);
+            output.writeInt(types.size());
+            for (Map.Entry<String, TypeDescriptor> entry : types.entrySet()) {
+                writeString(entry.getKey());
+                output.writeInt(indexes.get(entry.getValue()));
+            }
+        }
+
+        private int indexOf(TypeDescriptor typeDescriptor) {
+            Integer index = indexes.get(typeDescriptor);
+            if (index == null) {
+                index = table.size();
+                indexes.put(typeDescriptor, index);
+                table.add(typeDescriptor);
+            }
+            return index;
+        }
+
+        private void collectReferences(TypeDescriptor typeDescriptor) {
+            collectReference(typeDescriptor.baseType);
+            if (typeDescriptor.isObjectType()) {
+                for (FieldDescriptor fieldDescriptor : typeDescriptor.getFacets().getObjectContent().values())
+                    collectReference(fieldDescriptor.getTypeOrReference());
+            } else if (typeDescriptor.isArrayType())
+                collectReference(typeDescriptor.getFacets().getArrayContent().getType());
+            else if (typeDescriptor.isUnionType()) {
+                for (TypeOrReference typeOrReference : typeDescriptor.getFacets().getUnionContent().getTypes())
+                    collectReference(typeOrReference);
+            }
+        }
+
+        private void collectReference(TypeOrReference typeOrReference) {
+            if (typeOrReference != null && typeOrReference.getType() != null)
+                indexOf(typeOrReference.getType());
+        }
+
+        private void writeType(TypeDescriptor typeDescriptor) throws IOException {
+            if (typeDescriptor.isAtomicType()) {
+                output.writeByte(ATOMIC_TYPE);
+                output.writeByte(typeDescriptor.getType().ordinal());
+            } else if (typeDescriptor.isObjectType())
+                output.writeByte(OBJECT_TYPE);
+            else if (typeDescriptor.isArrayType())
+                output.writeByte(ARRAY_TYPE);
+            else if (typeDescriptor.isUnionType())
+                output.writeByte(UNION_TYPE);
+            else {
+                output.writeByte(VALUE_TYPE);
+                return;
+            }
+            writeString(typeDescriptor.getName());
+            writeReference(typeDescriptor.baseType);
+            Facets facets = typeDescriptor.getFacets();
+            output.writeBoolean(facets != null);
+            if (facets == null)
+                return;
+            writeCommonFacets(facets);
+            if (typeDescriptor.isAtomicType())
+                writeAtomicFacets((AtomicFacets) facets);
+            else if (typeDescriptor.isObjectType())
+                writeObjectFacets((ObjectFacets) facets);
+            else if (typeDescriptor.isArrayType())
+                writeArrayFacets((ArrayFacets) facets);
+            else
+                writeUnionFacets((UnionFacets) facets);
+        }
+
+        private void writeCommonFacets(Facets facets) throws IOException {
+            int definedFacets = 0;
+            for (FacetTypes facetType : facets.getDefinedFacets())
+                definedFacets |= 1 << facetType.ordinal();
+            output.writeInt(definedFacets);
+            writeItem(facets.metadata);
+            writeItems(facets.enumeration);
+            output.writeInt(facets.constraints == null ? NO_VALUE : facets.constraints.size());
+            if (facets.constraints != null) {
+                for (String constraint : facets.constraints)
+                    writeString(constraint);
+            }
+        }
+
+        private void writeAtomicFacets(AtomicFacets facets) throws IOException {
+            writeInteger(facets.length);
+            writeInteger(facets.minLength);
+            writeInteger(facets.maxLength);
+            writeItem(facets.minInclusive);
+            writeItem(facets.maxInclusive);
+            writeItem(facets.minExclusive);
+            writeItem(facets.maxExclusive);
+            writeInteger(facets.totalDigits);
+            writeInteger(facets.fractionDigits);
+            output.writeByte(facets.explicitTimezone == null ? NO_VALUE : facets.explicitTimezone.ordinal());
+        }
+
+        private void writeObjectFacets(ObjectFacets facets) throws IOException {
+            output.writeBoolean(facets.isClosed());
+            output.writeBoolean(facets.closedIsSet);
+            output.writeInt(facets.getObjectContent().size());
+            for (FieldDescriptor fieldDescriptor : facets.getObjectContent().values()) {
+                writeString(fieldDescriptor.getName());
+                writeReference(fieldDescriptor.getTypeOrReference());
+                output.writeBoolean(fieldDescriptor.requiredIsSet());
+                output.writeBoolean(fieldDescriptor.isRequired());
+                output.writeBoolean(fieldDescriptor.isUnique());
+                writeItem(fieldDescriptor.getDefaultValue());
+            }
+        }
+
+        private void writeArrayFacets(ArrayFacets facets) throws IOException {
+            writeReference(facets.getArrayContent().getType());
+            writeInteger(facets.minLength);
+            writeInteger(facets.maxLength);
+        }
+
+        private void writeUnionFacets(UnionFacets facets) throws IOException {
+            output.writeInt(facets.getUnionContent().getTypes().size());
+            for (TypeOrReference typeOrReference : facets.getUnionContent().getTypes())
+                writeReference(typeOrReference);
+        }
+
+        private void writeReference(TypeOrReference typeOrReference) throws IOException {
+            if (typeOrReference == null)
+                output.writeInt(NO_TYPE);
+            else if (typeOrReference.getType() == null) {
+                output.writeInt(UNRESOLVED_TYPE);
+                writeString(typeOrReference.getStringType());
+            } else
+                output.writeInt(indexes.get(typeOrReference.getType()));
+        }
+
+        private void writeItems(List<Item> items) throws IOException {
+            output.writeInt(items == null ? NO_VALUE : items.size());
+            if (items != null) {
+                for (Item item : items)
+                    writeItem(item);
+            }
+        }
+
+        private void writeItem(Item item) throws IOException {
+            output.writeBoolean(item != null);
+            if (item == null)
+                return;
+            if (item.isNull())
+                output.writeByte(NULL_ITEM);
+            else if (item.isBoolean())
+                output.writeByte(Boolean.parseBoolean(item.getStringValue()) ? TRUE_ITEM : FALSE_ITEM);
+            else if (item.isString()) {
+                output.writeByte(STRING_ITEM);
+                writeString(item.getStringValue());
+            } else if (item.isInteger()) {
+                output.writeByte(INTEGER_ITEM);
+                output.writeLong(item.getIntegerValue());
+            } else if (item.isBigInteger()) {
+                output.writeByte(BIG_INTEGER_ITEM);
+                writeString(item.getBigIntegerValue().toString());
+            } else if (item instanceof DecimalItem) {
+                output.writeByte(DECIMAL_ITEM);
+                writeString(item.getDecimalValue().toString());
+            } else if (item instanceof DoubleItem) {
+                output.writeByte(DOUBLE_ITEM);
+                output.writeDouble(item.getDoubleValue());
+            } else if (item.isObject()) {
+                output.writeByte(OBJECT_ITEM);
+                output.writeInt(item.getItemMap().size());
+                for (Map.Entry<String, Item> entry : item.getItemMap().entrySet()) {
+                    writeString(entry.getKey());
+                    writeItem(entry.getValue());
+                }
+            } else if (item.isArray()) {
+                output.writeByte(ARRAY_ITEM);
+                writeItems(item.getItems());
+            } else
+                throw new NotSerializableException(item.getClass().getName());
+        }
+
+        private void writeInteger(Integer value) throws IOException {
+            output.writeBoolean(value != null);
+            if (value != null)
+                output.writeInt(value);
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                output.writeInt(NO_VALUE);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private static class Reader {
+        private final DataInputStream input;
+        private final Map<String, TypeDescriptor> types = new HashMap<>();
+        private final Map<String, TypeDescriptor> table = new HashMap<>();
+        private int tableSize;
+
+        Reader(DataInputStream input) {
+            this.input = input;
+        }
+
+        Map<String, TypeDescriptor> read() throws IOException {
+            tableSize = input.readInt();
+            for (int index = 0; index < tableSize; index++)
+                table.put(Integer.toString(index), readType());
+            int namedTypes = input.readInt();
+            for (int count = 0; count < namedTypes; count++) {
+                String name = readString();
+                types.put(name, table.get(Integer.toString(checkIndex(input.readInt(), tableSize))));
+            }
+            return types;
+        }
+
+        private TypeDescriptor readType() throws IOException {
+            byte kind = input.readByte();
+            if (kind == VALUE_TYPE)
+                return TypeDescriptor.getValueInstance();
+            ItemTypes itemType = null;
+            if (kind == ATOMIC_TYPE)
+                itemType = ITEM_TYPES[checkIndex(input.readByte(), ITEM_TYPES.length)];
+            String name = readString();
+            TypeOrReference baseType = readReference();
+            boolean hasFacets = input.readBoolean();
+            switch (kind) {
+                case ATOMIC_TYPE:
+                    AtomicFacets atomicFacets = hasFacets ? readAtomicFacets() : null;
+                    return SchemaDefinitionUtils.createSpecificAtomicType(
+                        new AtomicTypeDescriptor(itemType, name, baseType, atomicFacets)
+                    );
+                case OBJECT_TYPE:
+                    ObjectFacets objectFacets = readObjectFacets();
+                    return baseType == null
+                        ? new ObjectTypeDescriptor(name, objectFacets)
+                        : new ObjectTypeDescriptor(name, baseType, objectFacets);
+                case ARRAY_TYPE:
+                    ArrayFacets arrayFacets = readArrayFacets();
+                    return baseType == null
+                        ? new ArrayTypeDescriptor(name, arrayFacets)
+                        : new ArrayTypeDescriptor(name, baseType, arrayFacets);
+                case UNION_TYPE:
+                    return new UnionTypeDescriptor(name, readUnionFacets());
+                default:
+                    throw new StreamCorruptedException("Unknown type kind " + kind);
+            }
+        }
+
+        private void readCommonFacets(Facets facets) throws IOException {
+            int definedFacets = input.readInt();
+            for (FacetTypes facetType : FACET_TYPES) {
+                if ((definedFacets & 1 << facetType.ordinal()) != 0)
+                    facets.definedFacets.add(facetType);
+            }
+            facets.metadata = readItem();
+            facets.enumeration = readItems();
+            int constraints = input.readInt();
+            if (constraints != NO_VALUE) {
+                facets.constraints = new ArrayList<>(constraints);
+                for (int count = 0; count < constraints; count++)
+                    facets.constraints.add(readString());
+            }
+        }
+
+        private AtomicFacets readAtomicFacets() throws IOException {
+            AtomicFacets facets = new AtomicFacets();
+            readCommonFacets(facets);
+            facets.length = readInteger();
+            facets.minLength = readInteger();
+            facets.maxLength = readInteger();
+            facets.minInclusive = readItem();
+            facets.maxInclusive = readItem();
+            facets.minExclusive = readItem();
+            facets.maxExclusive = readItem();
+            facets.totalDigits = readInteger();
+            facets.fractionDigits = readInteger();
+            byte timezone = input.readByte();
+            facets.explicitTimezone = timezone == NO_VALUE ? null : TIMEZONES[checkIndex(timezone, TIMEZONES.length)];
+            return facets;
+        }
+
+        private ObjectFacets readObjectFacets() throws IOException {
+            ObjectFacets facets = new ObjectFacets();
+            readCommonFacets(facets);
+            facets.setClosed(input.readBoolean());
+            facets.closedIsSet = input.readBoolean();
+            int fields = input.readInt();
+            for (int count = 0; count < fields; count++) {
+                FieldDescriptor fieldDescriptor = new FieldDescriptor();
+                fieldDescriptor.setName(readString());
+                fieldDescriptor.setType(readReference());
+                boolean requiredIsSet = input.readBoolean();
+                boolean required = input.readBoolean();
+                if (requiredIsSet)
+                    fieldDescriptor.setRequired(required);
+                fieldDescriptor.setUnique(input.readBoolean());
+                fieldDescriptor.setDefaultValue(readItem());
+                facets.getObjectContent().put(fieldDescriptor.getName(), fieldDescriptor);
+            }
+            return facets;
+        }
+
+        private ArrayFacets readArrayFacets() throws IOException {
+            ArrayFacets facets = new ArrayFacets();
+            readCommonFacets(facets);
+            facets.arrayContent = new ArrayContentDescriptor(readReference());
+            facets.minLength = readInteger();
+            facets.maxLength = readInteger();
+            return facets;
+        }
+
+        private UnionFacets readUnionFacets() throws IOException {
+            UnionFacets facets = new UnionFacets();
+            readCommonFacets(facets);
+            int unionTypes = input.readInt();
+            for (int count = 0; count < unionTypes; count++)
+                facets.getUnionContent().getTypes().add(readReference());
+            return facets;
+        }
+
+        private TypeOrReference readReference() throws IOException {
+            int index = input.readInt();
+            if (index == NO_TYPE)
+                return null;
+            if (index == UNRESOLVED_TYPE)
+                return new TypeOrReference(readString(), types);
+            return new TypeOrReference(Integer.toString(checkIndex(index, tableSize)), table);
+        }
+
+        private List<Item> readItems() throws IOException {
+            int size = input.readInt();
+            if (size == NO_VALUE)
+                return null;
+            List<Item> items = new ArrayList<>(size);
+            for (int count = 0; count < size; count++)
+                items.add(readItem());
+            return items;
+        }
+
+        private Item readItem() throws IOException {
+            if (!input.readBoolean())
+                return null;
+            ItemFactory itemFactory = ItemFactory.getInstance();
+            byte kind = input.readByte();
+            switch (kind) {
+                case NULL_ITEM:
+                    return itemFactory.createNullItem();
+                case TRUE_ITEM:
+                    return itemFactory.createBooleanItem(true);
+                case FALSE_ITEM:
+                    return itemFactory.createBooleanItem(false);
+                case STRING_ITEM:
+                    return itemFactory.createStringItem(readString());
+                case INTEGER_ITEM:
+                    return itemFactory.createIntegerItem(input.readLong());
+                case BIG_INTEGER_ITEM:
+                    return itemFactory.createIntegerItem(new BigInteger(readString()));
+                case DECIMAL_ITEM:
+                    return itemFactory.createDecimalItem(new BigDecimal(readString()));
+                case DOUBLE_ITEM:
+                    return itemFactory.createDoubleItem(input.readDouble());
+                case OBJECT_ITEM:
+                    int size = input.readInt();
+                    Map<String, Item> itemMap = new HashMap<>(2 * size);
+                    for (int count = 0; count < size; count++)
+                        itemMap.put(readString(), readItem());
+                    return itemFactory.createObjectItem(itemMap);
+                case ARRAY_ITEM:
+                    return itemFactory.createArrayItem(readItems());
+                default:
+                    throw new StreamCorruptedException("Unknown item kind " + kind);
+            }
+        }
+
+        private Integer readInteger() throws IOException {
+            return input.readBoolean() ? input.readInt() : null;
+        }
+
+        private String readString() throws IOException {
+            int length = input.readInt();
+            if (length == NO_VALUE)
+                return null;
+            byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static int checkIndex(int index, int length) throws StreamCorruptedException {
+            if (index < 0 || index >= length)
+                throw new StreamCorruptedException("Invalid index " + index);
+            return index;
+        }
+    }
+}
@@ -1,43 +1,37 @@
 package jsound.json;
 
 import com.jsoniter.JsonIterator;
+import com.jsoniter.spi.JsonException;
 import jsound.exceptions.JsoundException;
 import jsound.exceptions.UnexpectedTypeException;
 import org.api.Item;
+import jsound.item.ItemArena;
 import jsound.item.ItemFactory;
 
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 
 public class InstanceFileJsonParser {
 
+    private static final String MALFORMED_MESSAGE = "Invalid value found while parsing. JSON is not well-formed!";
+
     public static Item getItemFromObject(JsonIterator object) {
         try {
             switch (object.whatIsNext()) {
                 case STRING:
                     return ItemFactory.getInstance().createStringItem(object.readString());
                 case NUMBER:
-                    String number = object.readNumberAsString();
-                    if (number.contains("E") || number.contains("e")) {
-                        return ItemFactory.getInstance().createDoubleItem(Double.parseDouble(number));
-                    }
-                    if (number.contains(".")) {
-                        return ItemFactory.getInstance().createDecimalItem(new BigDecimal(number));
-                    }
-                    try {
-                        return ItemFactory.getInstance().createIntegerItem(Integer.parseInt(number));
-                    } catch (NumberFormatException e) {
-                        return ItemFactory.getInstance().createDecimalItem(new BigDecimal(number));
-                    }
+                    byte[] number = object.readNumberAsString().getBytes(StandardCharsets.US_ASCII);
+                    return getItem(number, 0, number.length);
                 case BOOLEAN:
                     return ItemFactory.getInstance().createBooleanItem(object.readBoolean());
                 case OBJECT:
-                    Map<String, Item> itemMap = new HashMap<>();
+                    Map<String, Item> itemMap = ItemFactory.getInstance().createItemMap();
                     String key;
                     while ((key = object.readObject()) != null) {
                         itemMap.put(key, getItemFromObject(object));
@@ -45,7 +39,7 @@ public class InstanceFileJsonParser {
                     return ItemFactory.getInstance()
                         .createObjectItem(itemMap);
                 case ARRAY:
-                    List<Item> arrayValues = new ArrayList<>();
+                    List<Item> arrayValues = ItemFactory.getInstance().createItemList();
                     while (object.readArray()) {
                         try {
                             arrayValues.add(getItemFromObject(object));
@@ -58,10 +52,134 @@ public class InstanceFileJsonParser {
                     object.readNull();
                     return ItemFactory.getInstance().createNullItem();
                 default:
-                    throw new JsoundException("Invalid value found while parsing. JSON is not well-formed!");
+                    throw new JsoundException(MALFORMED_MESSAGE);
             }
         } catch (IOException e) {
             throw new JsoundException("IO error while parsing. JSON is not well-formed!");
         }
     }
+
+    public static Item getItem(byte[] buffer, int head, int tail) {
+        JsonTokenizer tokenizer = new JsonTokenizer(buffer, head, tail);
+        try {
+            Item item = readItem(tokenizer);
+            if (!tokenizer.isAtEnd())
+                throw new JsoundException(MALFORMED_MESSAGE);
+            return item;
+        } catch (IOException e) {
+            throw new JsoundException("IO error while parsing. JSON is not well-formed!");
+        }
+    }
+
+    public static Item getLazyItem(byte[] buffer, int head, int tail) {
+        return InstanceTape.parse(buffer, head, tail).getItem(InstanceTape.ROOT);
+    }
+
+    static Item readItem(JsonTokenizer tokenizer) throws IOException {
+        int token = tokenizer.next();
+        switch (token) {
+            case JsonTokenizer.OBJECT:
+                Map<String, Item> itemMap = ItemFactory.getInstance().createItemMap();
+                while ((token = tokenizer.next()) != JsonTokenizer.END_OBJECT) {
+                    if (token == JsonTokenizer.KEY)
+                        itemMap.put(readFieldName(tokenizer), readItem(tokenizer));
+                }
+                return ItemFactory.getInstance().createObjectItem(itemMap);
+            case JsonTokenizer.ARRAY:
+                List<Item> arrayValues = ItemFactory.getInstance().createItemList();
+                while ((token = tokenizer.peek()) != JsonTokenizer.END_ARRAY) {
+                    if (token == JsonTokenizer.COMMA)
+                        tokenizer.next();
+                    else
+                        arrayValues.add(readItem(tokenizer));
+                }
+                tokenizer.next();
+                return ItemFactory.getInstance().createArrayItem(arrayValues);
+            default:
+                return createScalarItem(
+                    token,
+                    tokenizer.getBuffer(),
+                    tokenizer.getTokenStart(),
+                    tokenizer.getTokenEnd()
+                );
+        }
+    }
+
+    static Item createScalarItem(int token, byte[] buffer, int start, int end) {
+        switch (token) {
+            case JsonTokenizer.STRING:
+                return createStringItem(buffer, start, end);
+            case JsonTokenizer.NUMBER:
+                return createNumberItem(buffer, start, end);
+            case JsonTokenizer.TRUE:
+                return ItemFactory.getInstance().createBooleanItem(true);
+            case JsonTokenizer.FALSE:
+                return ItemFactory.getInstance().createBooleanItem(false);
+            case JsonTokenizer.NULL:
+                return ItemFactory.getInstance().createNullItem();
+            default:
+                throw new JsoundException(MALFORMED_MESSAGE);
+        }
+    }
+
+    static Item createStringItem(byte[] buffer, int start, int end) {
+        for (int index = start + 1; index < end - 1; index++) {
+            if (buffer[index] == '\\')
+                return ItemFactory.getInstance().createStringItem(decodeString(buffer, start, end));
+        }
+        return ItemFactory.getInstance().createStringItem(buffer, start + 1, end - 1);
+    }
+
+    private static Item createNumberItem(byte[] buffer, int start, int end) {
+        int index = start;
+        boolean negative = buffer[index] == '-';
+        if (negative)
+            index++;
+        boolean overflow = false;
+        long value = 0;
+        for (; index < end; index++) {
+            int digit = buffer[index] - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            if (value < (Long.MIN_VALUE + digit) / 10)
+                overflow = true;
+            value = value * 10 - digit;
+        }
+        if (end == index && !overflow && (negative || value != Long.MIN_VALUE))
+            return ItemFactory.getInstance().createIntegerItem(negative ? value : -value);
+        return readNumber(new String(buffer, start, end - start, StandardCharsets.US_ASCII));
+    }
+
+    private static Item readNumber(String number) {
+        if (number.indexOf('E') >= 0 || number.indexOf('e') >= 0)
+            return ItemFactory.getInstance().createDoubleItem(Double.parseDouble(number));
+        if (number.indexOf('.') >= 0)
+            return ItemFactory.getInstance().createDecimalItem(new BigDecimal(number));
+        return ItemFactory.getInstance().createIntegerItem(new BigInteger(number));
+    }
+
+    static String readFieldName(JsonTokenizer tokenizer) {
+        return readFieldName(tokenizer.getBuffer(), tokenizer.getTokenStart(), tokenizer.getTokenEnd());
+    }
+
+    static String readFieldName(byte[] buffer, int start, int end) {
+        for (int index = start + 1; index < end - 1; index++) {
+            if (buffer[index] == '\\')
+                return decodeString(buffer, start, end);
+        }
+        return toFieldName(buffer, start + 1, end - 1);
+    }
+
+    private static String decodeString(byte[] buffer, int start, int end) {
+        try {
+            return JsonIterator.parse(buffer, start, end).readString();
+        } catch (IOException | JsonException e) {
+            throw new JsoundException("IO error while parsing. JSON is not well-formed!");
+        }
+    }
+
+    private static String toFieldName(byte[] buffer, int start, int end) {
+        String name = ItemArena.internTable().getFieldName(buffer, start, end);
+        return name != null ? name : new String(buffer, start, end - start, StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,21 @@
+package jsound.json;
+
+import com.jsoniter.ValueType;
+import jsound.item.PrimitiveArrayItem;
+import org.api.Item;
+
+import java.io.IOException;
+
+public interface InstanceReader {
+    ValueType whatIsNext() throws IOException;
+
+    String readObjectKey() throws IOException;
+
+    boolean readArray() throws IOException;
+
+    void skipValue() throws IOException;
+
+    Item readItem() throws IOException;
+
+    PrimitiveArrayItem readNumberArray() throws IOException;
+}
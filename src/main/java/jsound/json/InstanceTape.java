@@ -0,0 +1,287 @@
+package jsound.json;
+
+import com.jsoniter.ValueType;
+import com.jsoniter.spi.Slice;
+import jsound.exceptions.JsoundException;
+import jsound.item.ItemFactory;
+import jsound.item.LazyItemList;
+import jsound.item.PrimitiveArrayItem;
+import jsound.item.ObjectShape;
+import org.api.Item;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class InstanceTape {
+
+    public static final int ROOT = 0;
+
+    private static final int OBJECT = JsonTokenizer.OBJECT;
+    private static final int ARRAY = JsonTokenizer.ARRAY;
+    private static final int KEY = JsonTokenizer.KEY;
+    private static final int STRING = JsonTokenizer.STRING;
+    private static final int NUMBER = JsonTokenizer.NUMBER;
+    private static final int TRUE = JsonTokenizer.TRUE;
+    private static final int FALSE = JsonTokenizer.FALSE;
+    private static final int NULL = JsonTokenizer.NULL;
+    private static final int EXPONENT = Integer.MAX_VALUE;
+    private static final int MAX_LONG_DIGITS = 19;
+    private static final long LOW_BITS = 0xFFFFFFFFL;
+    private static final int MAX_DEDUPLICATED_STRING_LENGTH = 34;
+    private static final int MAX_DEDUPLICATED_STRINGS = 4096;
+    private static final String MALFORMED_MESSAGE = "Invalid value found while parsing. JSON is not well-formed!";
+
+    private final byte[] _buffer;
+    private long[] _tape;
+    private int _size = 0;
+    private final Map<Slice, Item> _strings = new HashMap<>();
+    private final ObjectShape _shapes = ObjectShape.root();
+
+    private InstanceTape(byte[] buffer, int head, int tail) {
+        this._buffer = buffer;
+        this._tape = new long[2 * Math.max(16, (tail - head) / 32)];
+    }
+
+    public static InstanceTape parse(byte[] buffer, int head, int tail) {
+        InstanceTape tape = new InstanceTape(buffer, head, tail);
+        try {
+            tape.read(new JsonTokenizer(buffer, head, tail));
+        } catch (IOException e) {
+            throw new JsoundException("IO error while parsing. JSON is not well-formed!");
+        }
+        return tape;
+    }
+
+    public InstanceReader reader() {
+        return new TapeReader(this, ROOT);
+    }
+
+    ValueType getValueType(int index) {
+        switch (getKind(index)) {
+            case OBJECT:
+                return ValueType.OBJECT;
+            case ARRAY:
+                return ValueType.ARRAY;
+            case STRING:
+                return ValueType.STRING;
+            case NUMBER:
+                return ValueType.NUMBER;
+            case TRUE:
+            case FALSE:
+                return ValueType.BOOLEAN;
+            case NULL:
+                return ValueType.NULL;
+            default:
+                return ValueType.INVALID;
+        }
+    }
+
+    int getSize(int index) {
+        return isContainer(index) ? (int) (_tape[2 * index + 1] >>> 32) : 0;
+    }
+
+    int next(int index) {
+        return isContainer(index) ? (int) (_tape[2 * index + 1] & LOW_BITS) : index + 1;
+    }
+
+    public String getKey(int index) {
+        if (getKind(index) != KEY)
+            throw new JsoundException(MALFORMED_MESSAGE);
+        return InstanceFileJsonParser.readFieldName(_buffer, getStart(index), getEnd(index));
+    }
+
+    public Item getItem(int index) {
+        switch (getKind(index)) {
+            case OBJECT:
+                ObjectShape shape = _shapes;
+                int[] valueIndexes = new int[getSize(index)];
+                int field = index + 1;
+                for (int count = 0; count < valueIndexes.length; count++) {
+                    String key = getKey(field);
+                    int position = shape.indexOf(key);
+                    if (position < 0) {
+                        position = shape.size();
+                        shape = shape.withKey(key);
+                    }
+                    valueIndexes[position] = field + 1;
+                    field = next(field + 1);
+                }
+                return ItemFactory.getInstance()
+                    .createObjectItem(shape, this, Arrays.copyOf(valueIndexes, shape.size()));
+            case ARRAY:
+                int[] memberIndexes = getMemberIndexes(index);
+                Item numberArray = hasNumberMembers(memberIndexes) ? getNumberArrayItem(memberIndexes) : null;
+                return numberArray != null
+                    ? numberArray
+                    : ItemFactory.getInstance().createArrayItem(new LazyItemList(this, memberIndexes));
+            case KEY:
+                throw new JsoundException(MALFORMED_MESSAGE);
+            case STRING:
+                return getStringItem(getStart(index), getEnd(index));
+            default:
+                return InstanceFileJsonParser.createScalarItem(getKind(index), _buffer, getStart(index), getEnd(index));
+        }
+    }
+
+    PrimitiveArrayItem getNumberArrayItem(int index) {
+        if (getKind(index) != ARRAY)
+            return null;
+        int[] memberIndexes = getMemberIndexes(index);
+        return hasNumberMembers(memberIndexes) ? (PrimitiveArrayItem) getNumberArrayItem(memberIndexes) : null;
+    }
+
+    private int[] getMemberIndexes(int index) {
+        int[] memberIndexes = new int[getSize(index)];
+        int member = index + 1;
+        for (int count = 0; count < memberIndexes.length; count++) {
+            memberIndexes[count] = member;
+            member = next(member);
+        }
+        return memberIndexes;
+    }
+
+    private boolean hasNumberMembers(int[] memberIndexes) {
+        for (int memberIndex : memberIndexes) {
+            if (getKind(memberIndex) != NUMBER)
+                return false;
+        }
+        return memberIndexes.length > 0;
+    }
+
+    private Item getStringItem(int start, int end) {
+        if (end - start > MAX_DEDUPLICATED_STRING_LENGTH)
+            return InstanceFileJsonParser.createStringItem(_buffer, start, end);
+        Slice slice = new Slice(_buffer, start, end);
+        Item item = _strings.get(slice);
+        if (item == null) {
+            item = InstanceFileJsonParser.createStringItem(_buffer, start, end);
+            if (_strings.size() < MAX_DEDUPLICATED_STRINGS)
+                _strings.put(slice, item);
+        }
+        return item;
+    }
+
+    private Item getNumberArrayItem(int[] memberIndexes) {
+        int firstScale = readScale(getStart(memberIndexes[0]), getEnd(memberIndexes[0]));
+        if (firstScale == EXPONENT)
+            return getDoubleArrayItem(memberIndexes);
+        boolean isDecimal = firstScale > 0;
+        for (int memberIndex : memberIndexes) {
+            int start = getStart(memberIndex);
+            int end = getEnd(memberIndex);
+            int scale = readScale(start, end);
+            if (scale == EXPONENT || isDecimal != scale > 0 || !fitsInLong(start, end, scale))
+                return null;
+        }
+        long[] values = new long[memberIndexes.length];
+        int[] scales = isDecimal ? new int[memberIndexes.length] : null;
+        for (int count = 0; count < memberIndexes.length; count++) {
+            int start = getStart(memberIndexes[count]);
+            int end = getEnd(memberIndexes[count]);
+            values[count] = readUnscaled(start, end);
+            if (isDecimal)
+                scales[count] = readScale(start, end);
+        }
+        return isDecimal
+            ? ItemFactory.getInstance().createArrayItem(values, scales)
+            : ItemFactory.getInstance().createArrayItem(values);
+    }
+
+    private Item getDoubleArrayItem(int[] memberIndexes) {
+        for (int memberIndex : memberIndexes) {
+            if (readScale(getStart(memberIndex), getEnd(memberIndex)) != EXPONENT)
+                return null;
+        }
+        double[] values = new double[memberIndexes.length];
+        for (int count = 0; count < memberIndexes.length; count++) {
+            int start = getStart(memberIndexes[count]);
+            int end = getEnd(memberIndexes[count]);
+            values[count] = Double.parseDouble(new String(_buffer, start, end - start, StandardCharsets.US_ASCII));
+        }
+        return ItemFactory.getInstance().createArrayItem(values);
+    }
+
+    private boolean fitsInLong(int start, int end, int scale) {
+        int digits = end - start - (_buffer[start] == '-' ? 1 : 0) - (scale > 0 ? 1 : 0);
+        if (digits < MAX_LONG_DIGITS)
+            return true;
+        return digits == MAX_LONG_DIGITS && readUnscaled(start, end) != Long.MIN_VALUE;
+    }
+
+    private int readScale(int start, int end) {
+        int point = -1;
+        for (int index = start; index < end; index++) {
+            byte c = _buffer[index];
+            if (c == 'e' || c == 'E')
+                return EXPONENT;
+            if (c == '.')
+                point = index;
+        }
+        return point < 0 ? 0 : end - point - 1;
+    }
+
+    private long readUnscaled(int start, int end) {
+        boolean negative = _buffer[start] == '-';
+        long value = 0;
+        for (int index = negative ? start + 1 : start; index < end; index++) {
+            if (_buffer[index] == '.')
+                continue;
+            int digit = _buffer[index] - '0';
+            if (value < (Long.MIN_VALUE + 1 + digit) / 10)
+                return Long.MIN_VALUE;
+            value = value * 10 - digit;
+        }
+        return negative ? value : -value;
+    }
+
+    private int getKind(int index) {
+        return (int) (_tape[2 * index] >>> 32);
+    }
+
+    private boolean isContainer(int index) {
+        int kind = getKind(index);
+        return kind == OBJECT || kind == ARRAY;
+    }
+
+    private int getStart(int index) {
+        return (int) (_tape[2 * index] & LOW_BITS);
+    }
+
+    private int getEnd(int index) {
+        return (int) _tape[2 * index + 1];
+    }
+
+    private int append(int kind, int start, long value) {
+        if (2 * _size == _tape.length)
+            _tape = Arrays.copyOf(_tape, 2 * _tape.length);
+        _tape[2 * _size] = ((long) kind << 32) | start;
+        _tape[2 * _size + 1] = value;
+        return _size++;
+    }
+
+    private void read(JsonTokenizer tokenizer) throws IOException {
+        int[] containers = new int[16];
+        int depth = 0;
+        int token;
+        while ((token = tokenizer.next()) != JsonTokenizer.END) {
+            if (token == JsonTokenizer.COMMA)
+                continue;
+            if (token == JsonTokenizer.END_OBJECT || token == JsonTokenizer.END_ARRAY) {
+                _tape[2 * containers[--depth] + 1] |= _size;
+                continue;
+            }
+            if (depth > 0 && (token == KEY || getKind(containers[depth - 1]) == ARRAY))
+                _tape[2 * containers[depth - 1] + 1] += 1L << 32;
+            if (token != OBJECT && token != ARRAY) {
+                append(token, tokenizer.getTokenStart(), tokenizer.getTokenEnd());
+                continue;
+            }
+            if (depth == containers.length)
+                containers = Arrays.copyOf(containers, 2 * depth);
+            containers[depth++] = append(token, tokenizer.getTokenStart(), 0);
+        }
+    }
+}
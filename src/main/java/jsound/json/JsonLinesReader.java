@@ -0,0 +1,109 @@
+package jsound.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+public class JsonLinesReader implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+    private byte[] buffer;
+    private int position = 0, scanPosition = 0, limit = 0;
+    private int lineStart = 0, lineEnd = 0;
+    private long lineNumber = 0;
+    private boolean endOfInput = false;
+
+    public JsonLinesReader(InputStream input) {
+        this(input, DEFAULT_BUFFER_SIZE);
+    }
+
+    public JsonLinesReader(InputStream input, int bufferSize) {
+        this.input = input;
+        this.buffer = new byte[bufferSize];
+    }
+
+    public JsonLinesReader(byte[] bytes, int offset, int length) {
+        this.input = null;
+        this.buffer = bytes;
+        this.position = this.scanPosition = offset;
+        this.limit = offset + length;
+        this.endOfInput = true;
+    }
+
+    public boolean readLine() throws IOException {
+        while (true) {
+            int newLine = indexOfNewLine(scanPosition, limit);
+            if (newLine >= 0 || (endOfInput && position < limit)) {
+                int end = newLine >= 0 ? newLine : limit;
+                lineStart = position;
+                lineEnd = end;
+                position = scanPosition = Math.min(end + 1, limit);
+                lineNumber++;
+                if (!isBlank(lineStart, lineEnd))
+                    return true;
+                continue;
+            }
+            if (endOfInput)
+                return false;
+            scanPosition = limit;
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        int pending = limit - position;
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, pending);
+            scanPosition -= position;
+            position = 0;
+            limit = pending;
+        } else if (limit == buffer.length)
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        int read = input.read(buffer, limit, buffer.length - limit);
+        if (read < 0)
+            endOfInput = true;
+        else
+            limit += read;
+    }
+
+    private int indexOfNewLine(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] == '\n')
+                return i;
+        }
+        return -1;
+    }
+
+    private boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] != ' ' && buffer[i] != '\t' && buffer[i] != '\r')
+                return false;
+        }
+        return true;
+    }
+
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    public int getLineStart() {
+        return lineStart;
+    }
+
+    public int getLineEnd() {
+        return lineEnd;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (input != null)
+            input.close();
+    }
+}
@@ -0,0 +1,145 @@
+package jsound.json;
+
+import com.jsoniter.ValueType;
+import jsound.exceptions.JsoundException;
+import jsound.item.PrimitiveArrayItem;
+import org.api.Item;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class JsonStreamReader implements InstanceReader, Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_MAX_VALUE_SIZE = 256 * 1024 * 1024;
+    private static final String MALFORMED_MESSAGE = "Invalid value found while parsing. JSON is not well-formed!";
+
+    private final InputStream input;
+    private final JsonTokenizer tokenizer;
+
+    public JsonStreamReader(InputStream input) {
+        this(input, DEFAULT_BUFFER_SIZE);
+    }
+
+    public JsonStreamReader(InputStream input, int bufferSize) {
+        this(input, bufferSize, DEFAULT_MAX_VALUE_SIZE);
+    }
+
+    public JsonStreamReader(InputStream input, int bufferSize, int maxValueSize) {
+        this.input = input;
+        this.tokenizer = new JsonTokenizer(input, bufferSize, maxValueSize);
+    }
+
+    public JsonStreamReader(byte[] buffer, int start, int end) {
+        this.input = null;
+        this.tokenizer = new JsonTokenizer(buffer, start, end);
+    }
+
+    public JsonStreamReader wrap(byte[] buffer, int start, int end) {
+        if (input != null)
+            throw new IllegalStateException("A reader over a stream cannot be rewrapped.");
+        tokenizer.reset(buffer, start, end);
+        return this;
+    }
+
+    @Override
+    public ValueType whatIsNext() throws IOException {
+        switch (tokenizer.peek()) {
+            case JsonTokenizer.OBJECT:
+                return ValueType.OBJECT;
+            case JsonTokenizer.ARRAY:
+                return ValueType.ARRAY;
+            case JsonTokenizer.STRING:
+                return ValueType.STRING;
+            case JsonTokenizer.NUMBER:
+                return ValueType.NUMBER;
+            case JsonTokenizer.TRUE:
+            case JsonTokenizer.FALSE:
+                return ValueType.BOOLEAN;
+            case JsonTokenizer.NULL:
+                return ValueType.NULL;
+            default:
+                return ValueType.INVALID;
+        }
+    }
+
+    @Override
+    public boolean readArray() throws IOException {
+        switch (tokenizer.next()) {
+            case JsonTokenizer.ARRAY:
+                if (tokenizer.peek() != JsonTokenizer.END_ARRAY)
+                    return true;
+                tokenizer.next();
+                return false;
+            case JsonTokenizer.COMMA:
+                return true;
+            case JsonTokenizer.END_ARRAY:
+                return false;
+            default:
+                throw new JsoundException(MALFORMED_MESSAGE);
+        }
+    }
+
+    @Override
+    public String readObjectKey() throws IOException {
+        int token = tokenizer.next();
+        if (token == JsonTokenizer.OBJECT || token == JsonTokenizer.COMMA)
+            token = tokenizer.next();
+        if (token == JsonTokenizer.END_OBJECT)
+            return null;
+        if (token != JsonTokenizer.KEY)
+            throw new JsoundException(MALFORMED_MESSAGE);
+        return InstanceFileJsonParser.readFieldName(tokenizer);
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            switch (tokenizer.next()) {
+                case JsonTokenizer.OBJECT:
+                case JsonTokenizer.ARRAY:
+                    depth++;
+                    break;
+                case JsonTokenizer.END_OBJECT:
+                case JsonTokenizer.END_ARRAY:
+                    depth--;
+                    break;
+            }
+        } while (depth > 0);
+    }
+
+    @Override
+    public Item readItem() throws IOException {
+        int token = tokenizer.peek();
+        if (tokenizer.isStable() || (token != JsonTokenizer.OBJECT && token != JsonTokenizer.ARRAY))
+            return InstanceFileJsonParser.readItem(tokenizer);
+        tokenizer.pin();
+        skipValue();
+        int start = tokenizer.unpin();
+        return InstanceFileJsonParser.readItem(
+            new JsonTokenizer(tokenizer.getBuffer(), start, tokenizer.getTokenEnd())
+        );
+    }
+
+    @Override
+    public PrimitiveArrayItem readNumberArray() {
+        return null;
+    }
+
+    public boolean isConsumed() throws IOException {
+        return tokenizer.isAtEnd();
+    }
+
+    public void readEnd() throws IOException {
+        if (!tokenizer.isAtEnd())
+            throw new JsoundException(MALFORMED_MESSAGE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (input != null)
+            input.close();
+    }
+}
@@ -0,0 +1,330 @@
+package jsound.json;
+
+import jsound.exceptions.JsoundException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+class JsonTokenizer {
+
+    static final int END = 0;
+    static final int OBJECT = 1;
+    static final int ARRAY = 2;
+    static final int KEY = 3;
+    static final int STRING = 4;
+    static final int NUMBER = 5;
+    static final int TRUE = 6;
+    static final int FALSE = 7;
+    static final int NULL = 8;
+    static final int END_OBJECT = 9;
+    static final int END_ARRAY = 10;
+    static final int COMMA = 11;
+
+    private static final int EXPECT_VALUE = 0;
+    private static final int EXPECT_VALUE_OR_END = 1;
+    private static final int EXPECT_KEY = 2;
+    private static final int EXPECT_KEY_OR_END = 3;
+    private static final int EXPECT_COMMA_OR_END = 4;
+    private static final int EXPECT_END = 5;
+    private static final String MALFORMED_MESSAGE = "Invalid value found while parsing. JSON is not well-formed!";
+
+    private final InputStream input;
+    private final int maxValueSize;
+    private byte[] buffer;
+    private int position, limit;
+    private int tokenStart, tokenEnd;
+    private int pinned = -1;
+    private int peeked = -1;
+    private int state = EXPECT_VALUE;
+    private byte[] containers = new byte[16];
+    private int depth = 0;
+
+    JsonTokenizer(InputStream input, int bufferSize, int maxValueSize) {
+        this.input = input;
+        this.maxValueSize = maxValueSize;
+        this.buffer = new byte[Math.min(bufferSize, maxValueSize)];
+    }
+
+    JsonTokenizer(byte[] buffer, int start, int end) {
+        this.input = null;
+        this.maxValueSize = 0;
+        reset(buffer, start, end);
+    }
+
+    void reset(byte[] buffer, int start, int end) {
+        this.buffer = buffer;
+        this.position = start;
+        this.limit = end;
+        this.tokenStart = start;
+        this.tokenEnd = start;
+        this.pinned = -1;
+        this.peeked = -1;
+        this.state = EXPECT_VALUE;
+        this.depth = 0;
+    }
+
+    int next() throws IOException {
+        if (peeked < 0)
+            return readToken();
+        int token = peeked;
+        peeked = -1;
+        return token;
+    }
+
+    int peek() throws IOException {
+        if (peeked < 0)
+            peeked = readToken();
+        return peeked;
+    }
+
+    boolean isAtEnd() throws IOException {
+        if (peeked >= 0)
+            return peeked == END;
+        if (state != EXPECT_END)
+            return false;
+        tokenStart = position;
+        if (skipWhitespace() < 0)
+            return true;
+        position--;
+        return false;
+    }
+
+    void pin() {
+        pinned = tokenStart;
+    }
+
+    int unpin() {
+        int start = pinned;
+        pinned = -1;
+        return start;
+    }
+
+    byte[] getBuffer() {
+        return buffer;
+    }
+
+    int getTokenStart() {
+        return tokenStart;
+    }
+
+    int getTokenEnd() {
+        return tokenEnd;
+    }
+
+    boolean isStable() {
+        return input == null;
+    }
+
+    private int readToken() throws IOException {
+        tokenStart = position;
+        int c = skipWhitespace();
+        tokenStart = position - 1;
+        switch (state) {
+            case EXPECT_END:
+                if (c >= 0)
+                    throw new JsoundException(MALFORMED_MESSAGE);
+                tokenStart = tokenEnd = position;
+                return END;
+            case EXPECT_COMMA_OR_END:
+                if (c != ',')
+                    return readEnd(c);
+                tokenEnd = position;
+                state = containers[depth - 1] == OBJECT ? EXPECT_KEY : EXPECT_VALUE;
+                return COMMA;
+            case EXPECT_KEY_OR_END:
+                if (c == '}')
+                    return readEnd(c);
+            case EXPECT_KEY:
+                if (c != '"')
+                    throw new JsoundException(MALFORMED_MESSAGE);
+                scanString();
+                tokenEnd = position;
+                if (skipWhitespace() != ':')
+                    throw new JsoundException(MALFORMED_MESSAGE);
+                state = EXPECT_VALUE;
+                return KEY;
+            case EXPECT_VALUE_OR_END:
+                if (c == ']')
+                    return readEnd(c);
+            default:
+                return readValue(c);
+        }
+    }
+
+    private int readEnd(int c) {
+        boolean isObject = containers[depth - 1] == OBJECT;
+        if (c != (isObject ? '}' : ']'))
+            throw new JsoundException(MALFORMED_MESSAGE);
+        depth--;
+        tokenEnd = position;
+        state = depth == 0 ? EXPECT_END : EXPECT_COMMA_OR_END;
+        return isObject ? END_OBJECT : END_ARRAY;
+    }
+
+    private int readValue(int c) throws IOException {
+        int token;
+        switch (c) {
+            case '{':
+                return open(OBJECT, EXPECT_KEY_OR_END);
+            case '[':
+                return open(ARRAY, EXPECT_VALUE_OR_END);
+            case '"':
+                scanString();
+                token = STRING;
+                break;
+            case 't':
+                scanLiteral("rue");
+                token = TRUE;
+                break;
+            case 'f':
+                scanLiteral("alse");
+                token = FALSE;
+                break;
+            case 'n':
+                scanLiteral("ull");
+                token = NULL;
+                break;
+            default:
+                scanNumber(c);
+                token = NUMBER;
+                break;
+        }
+        tokenEnd = position;
+        state = depth == 0 ? EXPECT_END : EXPECT_COMMA_OR_END;
+        return token;
+    }
+
+    private int open(int token, int state) {
+        if (depth == containers.length)
+            containers = Arrays.copyOf(containers, 2 * depth);
+        containers[depth++] = (byte) token;
+        tokenEnd = position;
+        this.state = state;
+        return token;
+    }
+
+    private void scanString() throws IOException {
+        while (true) {
+            int c = readByte();
+            if (c == '"')
+                return;
+            if (c < 0x20)
+                throw new JsoundException(MALFORMED_MESSAGE);
+            if (c == '\\')
+                scanEscape();
+        }
+    }
+
+    private void scanEscape() throws IOException {
+        switch (readByte()) {
+            case '"':
+            case '\\':
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                return;
+            case 'u':
+                for (int count = 0; count < 4; count++) {
+                    if (Character.digit(readByte(), 16) < 0)
+                        throw new JsoundException(MALFORMED_MESSAGE);
+                }
+                return;
+            default:
+                throw new JsoundException(MALFORMED_MESSAGE);
+        }
+    }
+
+    private void scanLiteral(String rest) throws IOException {
+        for (int index = 0; index < rest.length(); index++) {
+            if (readByte() != rest.charAt(index))
+                throw new JsoundException(MALFORMED_MESSAGE);
+        }
+    }
+
+    private void scanNumber(int c) throws IOException {
+        if (c == '-')
+            c = readByte();
+        if (c == '0')
+            c = readByte();
+        else if (isDigit(c))
+            c = scanDigits();
+        else
+            throw new JsoundException(MALFORMED_MESSAGE);
+        if (c == '.') {
+            if (!isDigit(readByte()))
+                throw new JsoundException(MALFORMED_MESSAGE);
+            c = scanDigits();
+        }
+        if (c == 'e' || c == 'E') {
+            c = readByte();
+            if (c == '+' || c == '-')
+                c = readByte();
+            if (!isDigit(c))
+                throw new JsoundException(MALFORMED_MESSAGE);
+            c = scanDigits();
+        }
+        if (c >= 0)
+            position--;
+    }
+
+    private int scanDigits() throws IOException {
+        int c;
+        do {
+            c = readByte();
+        } while (isDigit(c));
+        return c;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private int readByte() throws IOException {
+        if (position == limit && !fill())
+            return -1;
+        return buffer[position++] & 0xff;
+    }
+
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            while (position < limit) {
+                byte c = buffer[position++];
+                if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+                    return c & 0xff;
+            }
+            if (!fill())
+                return -1;
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (input == null)
+            return false;
+        int keepFrom = pinned >= 0 ? pinned : tokenStart;
+        if (keepFrom > 0) {
+            System.arraycopy(buffer, keepFrom, buffer, 0, limit - keepFrom);
+            limit -= keepFrom;
+            position -= keepFrom;
+            tokenStart -= keepFrom;
+            tokenEnd -= keepFrom;
+            if (pinned >= 0)
+                pinned -= keepFrom;
+        } else if (limit == buffer.length) {
+            if (buffer.length >= maxValueSize)
+                throw new JsoundException(
+                        "A value larger than "
+                            + maxValueSize
+                            + " bytes has to be held in memory to be validated against its type."
+                );
+            buffer = Arrays.copyOf(buffer, (int) Math.min(2L * buffer.length, maxValueSize));
+        }
+        int read = input.read(buffer, limit, buffer.length - limit);
+        if (read > 0)
+            limit += read;
+        return read > 0;
+    }
+}
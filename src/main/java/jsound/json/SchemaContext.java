@@ -0,0 +1,69 @@
+package jsound.json;
+
+import com.jsoniter.JsonIterator;
+import jsound.exceptions.JsoundException;
+import jsound.typedescriptors.TypeOrReference;
+import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
+import org.api.TypeDescriptor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SchemaContext implements AutoCloseable {
+
+    private static final ThreadLocal<SchemaContext> _current = new ThreadLocal<>();
+
+    private final JsonIterator _iterator;
+    private final Map<String, TypeDescriptor> _types = new HashMap<>();
+    private final Map<String, TypeOrReference> _compactTypes = new HashMap<>();
+    private final List<AtomicTypeDescriptor> _shouldCheckBaseType = new ArrayList<>();
+    private final SchemaContext _previous;
+
+    private SchemaContext(JsonIterator iterator) {
+        this._iterator = iterator;
+        this._previous = _current.get();
+    }
+
+    public static SchemaContext open(byte[] schemaDefinition) {
+        SchemaContext context = new SchemaContext(JsonIterator.parse(schemaDefinition));
+        _current.set(context);
+        return context;
+    }
+
+    public static SchemaContext current() {
+        SchemaContext context = _current.get();
+        if (context == null)
+            throw new JsoundException("No schema is being compiled on this thread.");
+        return context;
+    }
+
+    public static JsonIterator schemaIterator() {
+        return current()._iterator;
+    }
+
+    public static Map<String, TypeDescriptor> schemaTypes() {
+        return current()._types;
+    }
+
+    public static Map<String, TypeOrReference> compactSchemaTypes() {
+        return current()._compactTypes;
+    }
+
+    static List<AtomicTypeDescriptor> shouldCheckBaseType() {
+        return current()._shouldCheckBaseType;
+    }
+
+    public Map<String, TypeDescriptor> getTypes() {
+        return _types;
+    }
+
+    @Override
+    public void close() {
+        if (_previous == null)
+            _current.remove();
+        else
+            _current.set(_previous);
+    }
+}
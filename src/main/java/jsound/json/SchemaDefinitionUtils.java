@@ -22,20 +22,20 @@ import org.api.TypeDescriptor;
 import jsound.typedescriptors.TypeOrReference;
 import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
 
-import static jsound.json.CompactSchemaFileJsonParser.compactSchema;
+import static jsound.json.SchemaContext.compactSchemaTypes;
 import static jsound.types.ItemTypes.ATOMIC;
-import static org.api.executors.JSoundExecutor.schema;
+import static jsound.json.SchemaContext.schemaTypes;
 
 public class SchemaDefinitionUtils {
 
     static TypeDescriptor resolveTypeDescriptors(String key) {
-        TypeOrReference typeOrReference = compactSchema.get(key);
+        TypeOrReference typeOrReference = compactSchemaTypes().get(key);
         TypeDescriptor typeDescriptor;
         if (typeOrReference.getType() == null)
             typeDescriptor = resolveTypeDescriptors(typeOrReference.getStringType());
         else
             typeDescriptor = typeOrReference.getType();
-        schema.put(key, typeDescriptor);
+        schemaTypes().put(key, typeDescriptor);
         return typeDescriptor;
     }
 
@@ -43,7 +43,7 @@ public class SchemaDefinitionUtils {
         if (typeDescriptor.baseType.getType() == null) {
             AtomicTypeDescriptor baseTypeDescriptor;
             try {
-                baseTypeDescriptor = (AtomicTypeDescriptor) schema.getOrDefault(
+                baseTypeDescriptor = (AtomicTypeDescriptor) schemaTypes().getOrDefault(
                     typeDescriptor.baseType.getStringType(),
                     null
                 );
@@ -84,7 +84,7 @@ public class SchemaDefinitionUtils {
         return typeDescriptor;
     }
 
-    private static AtomicTypeDescriptor createSpecificAtomicType(AtomicTypeDescriptor atomicTypeDescriptor) {
+    static AtomicTypeDescriptor createSpecificAtomicType(AtomicTypeDescriptor atomicTypeDescriptor) {
         switch (atomicTypeDescriptor.getType()) {
             case ANYURI:
                 return new AnyURIType(atomicTypeDescriptor);
@@ -26,39 +26,35 @@ import jsound.types.AtomicTypes;
 import jsound.types.ItemTypes;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
-import static org.api.executors.JSoundExecutor.jsonSchemaIterator;
-import static org.api.executors.JSoundExecutor.schema;
+import static jsound.json.SchemaContext.schemaIterator;
+import static jsound.json.SchemaContext.schemaTypes;
 
 public class SchemaFileJsonParser {
     public static final Set<FacetTypes> commonFacets = new HashSet<>(
             Arrays.asList(FacetTypes.ENUMERATION, FacetTypes.METADATA, FacetTypes.CONSTRAINTS)
     );
 
-    private static List<AtomicTypeDescriptor> shouldCheckBaseType = new ArrayList<>();
-
     public static void createSchema() {
         try {
-            if (!jsonSchemaIterator.whatIsNext().equals(ValueType.OBJECT)) {
+            if (!schemaIterator().whatIsNext().equals(ValueType.OBJECT)) {
                 throw new InvalidSchemaException("The schema root object must be a JSON object");
             }
-            String types = jsonSchemaIterator.readObject();
+            String types = schemaIterator().readObject();
             if (!"types".equals(types)) {
                 throw new InvalidSchemaException("There should be a root array of types called \"types\"");
             }
-            if (!jsonSchemaIterator.whatIsNext().equals(ValueType.ARRAY)) {
+            if (!schemaIterator().whatIsNext().equals(ValueType.ARRAY)) {
                 throw new InvalidSchemaException("Please provide an array of types");
             }
-            while (jsonSchemaIterator.readArray()) {
+            while (schemaIterator().readArray()) {
                 TypeDescriptor typeDescriptor = getTypeDescriptor(false);
-                schema.put(typeDescriptor.getName(), typeDescriptor);
+                schemaTypes().put(typeDescriptor.getName(), typeDescriptor);
             }
-            for (AtomicTypeDescriptor atomicTypeDescriptor : shouldCheckBaseType) {
+            for (AtomicTypeDescriptor atomicTypeDescriptor : SchemaContext.shouldCheckBaseType()) {
                 SchemaDefinitionUtils.resolveSpecificAtomicTypeDescriptor(atomicTypeDescriptor);
             }
         } catch (IOException e) {
@@ -67,19 +63,19 @@ public class SchemaFileJsonParser {
     }
 
     public static TypeDescriptor getTypeDescriptor(boolean isNested) throws IOException {
-        if (!jsonSchemaIterator.whatIsNext().equals(ValueType.OBJECT))
-            throw new UnexpectedTypeException(jsonSchemaIterator.read().toString());
+        if (!schemaIterator().whatIsNext().equals(ValueType.OBJECT))
+            throw new UnexpectedTypeException(schemaIterator().read().toString());
 
         String name = null;
         if (!isNested) {
-            if (!"name".equals(jsonSchemaIterator.readObject()))
+            if (!"name".equals(schemaIterator().readObject()))
                 throw new InvalidSchemaException("Please specify the \"name\" first.");
             name = Facets.getStringFromObject("name");
-            if (schema.containsKey(name))
+            if (schemaTypes().containsKey(name))
                 throwExistingTypeException(name);
         }
 
-        if (!"kind".equals(jsonSchemaIterator.readObject()))
+        if (!"kind".equals(schemaIterator().readObject()))
             throw new MissingKindException(
                     "Field \"kind\" is missing for object " + name + " or is defined after other properties."
             );
@@ -109,7 +105,7 @@ public class SchemaFileJsonParser {
 
     private static TypeDescriptor buildAtomicTypeDescriptor(String name) throws IOException {
         String key, baseTypeString;
-        if ((key = jsonSchemaIterator.readObject()) != null) {
+        if ((key = schemaIterator().readObject()) != null) {
             if (!key.equals("baseType"))
                 throw new IncosistentBaseTypeException(
                         "Please define the baseType before defining the facets for type " + name
@@ -128,8 +124,8 @@ public class SchemaFileJsonParser {
 
     private static AtomicTypeDescriptor createNonPrimitiveAtomicTypeDescriptor(String name, String baseTypeString)
             throws IOException {
-        if (schema.containsKey(baseTypeString)) {
-            TypeDescriptor typeDescriptor = schema.get(baseTypeString);
+        if (schemaTypes().containsKey(baseTypeString)) {
+            TypeDescriptor typeDescriptor = schemaTypes().get(baseTypeString);
             if (!typeDescriptor.isAtomicType())
                 throw new InvalidSchemaException("The baseType must be atomic.");
             AtomicTypeDescriptor atomicTypeDescriptor = new AtomicTypeDescriptor(
@@ -138,7 +134,7 @@ public class SchemaFileJsonParser {
                     new TypeOrReference(typeDescriptor),
                     createAtomicFacets(AtomicTypeDescriptor._allowedFacets, name)
             );
-            shouldCheckBaseType.add(atomicTypeDescriptor);
+            SchemaContext.shouldCheckBaseType().add(atomicTypeDescriptor);
             return atomicTypeDescriptor;
         } else if ("atomic".equals(baseTypeString))
             throw new InvalidSchemaException("BaseType cannot be atomic.");
@@ -148,21 +144,21 @@ public class SchemaFileJsonParser {
                 new TypeOrReference(baseTypeString),
                 createAtomicFacets(AtomicTypeDescriptor._allowedFacets, name)
         );
-        shouldCheckBaseType.add(atomicTypeDescriptor);
+        SchemaContext.shouldCheckBaseType().add(atomicTypeDescriptor);
         return atomicTypeDescriptor;
     }
 
 
     private static ObjectTypeDescriptor buildObjectTypeDescriptor(String name) throws IOException {
         String baseTypeString;
-        String key = jsonSchemaIterator.readObject();
+        String key = schemaIterator().readObject();
         if (key == null)
             return new ObjectTypeDescriptor(name, new ObjectFacets());
 
         if ("baseType".equals(key)) {
             baseTypeString = Facets.getStringFromObject("baseType");
-            if (schema.containsKey(baseTypeString)) {
-                TypeDescriptor typeDescriptor = schema.get(baseTypeString);
+            if (schemaTypes().containsKey(baseTypeString)) {
+                TypeDescriptor typeDescriptor = schemaTypes().get(baseTypeString);
                 if (!typeDescriptor.isObjectType())
                     throw new InvalidSchemaException("The baseType must be of type object.");
                 return new ObjectTypeDescriptor(
@@ -199,13 +195,13 @@ public class SchemaFileJsonParser {
 
     private static TypeDescriptor buildArrayTypeDescriptor(String name) throws IOException {
         String baseTypeString;
-        String key = jsonSchemaIterator.readObject();
+        String key = schemaIterator().readObject();
         if (key == null)
             return new ArrayTypeDescriptor(name, new ArrayFacets());
         if ("baseType".equals(key)) {
             baseTypeString = Facets.getStringFromObject("baseType");
-            if (schema.containsKey(baseTypeString)) {
-                TypeDescriptor typeDescriptor = schema.get(baseTypeString);
+            if (schemaTypes().containsKey(baseTypeString)) {
+                TypeDescriptor typeDescriptor = schemaTypes().get(baseTypeString);
                 if (!typeDescriptor.isArrayType())
                     throw new InvalidSchemaException("The baseType must be of type array.");
                 return new ArrayTypeDescriptor(
@@ -237,7 +233,7 @@ public class SchemaFileJsonParser {
     }
 
     private static TypeDescriptor buildUnionTypeDescriptor(String name) throws IOException {
-        String key = jsonSchemaIterator.readObject();
+        String key = schemaIterator().readObject();
         if (key == null)
             return new UnionTypeDescriptor(name, new UnionFacets());
         try {
@@ -295,7 +291,7 @@ public class SchemaFileJsonParser {
     public static Facets createFacets(Set<FacetTypes> allowedFacets, Facets facets, String typeName)
             throws IOException {
         String key;
-        while ((key = jsonSchemaIterator.readObject()) != null) {
+        while ((key = schemaIterator().readObject()) != null) {
             try {
                 FacetTypes facetTypes = FacetTypes.valueOf(key.toUpperCase());
                 if (!(allowedFacets.contains(facetTypes) || commonFacets.contains(facetTypes)))
@@ -0,0 +1,83 @@
+package jsound.json;
+
+import com.jsoniter.ValueType;
+import jsound.item.PrimitiveArrayItem;
+import org.api.Item;
+
+import java.util.Arrays;
+
+class TapeReader implements InstanceReader {
+
+    private final InstanceTape tape;
+    private int index;
+    private boolean isValuePending = true;
+    private int[] ends = new int[16];
+    private int depth = 0;
+
+    TapeReader(InstanceTape tape, int index) {
+        this.tape = tape;
+        this.index = index;
+    }
+
+    @Override
+    public ValueType whatIsNext() {
+        return tape.getValueType(index);
+    }
+
+    @Override
+    public String readObjectKey() {
+        if (isValuePending)
+            enter();
+        if (isAtContainerEnd())
+            return null;
+        String key = tape.getKey(index++);
+        isValuePending = true;
+        return key;
+    }
+
+    @Override
+    public boolean readArray() {
+        if (isValuePending)
+            enter();
+        if (isAtContainerEnd())
+            return false;
+        isValuePending = true;
+        return true;
+    }
+
+    @Override
+    public void skipValue() {
+        index = tape.next(index);
+        isValuePending = false;
+    }
+
+    @Override
+    public Item readItem() {
+        Item item = tape.getItem(index);
+        skipValue();
+        return item;
+    }
+
+    @Override
+    public PrimitiveArrayItem readNumberArray() {
+        PrimitiveArrayItem numbers = tape.getNumberArrayItem(index);
+        if (numbers != null)
+            skipValue();
+        return numbers;
+    }
+
+    private void enter() {
+        if (depth == ends.length)
+            ends = Arrays.copyOf(ends, 2 * depth);
+        ends[depth++] = tape.next(index);
+        index++;
+        isValuePending = false;
+    }
+
+    private boolean isAtContainerEnd() {
+        if (index < ends[depth - 1])
+            return false;
+        depth--;
+        return true;
+    }
+}
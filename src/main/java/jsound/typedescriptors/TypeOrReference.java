@@ -1,29 +1,43 @@
 package jsound.typedescriptors;
 
 import jsound.exceptions.TypeNotResolvedException;
+import jsound.json.SchemaContext;
 import org.api.TypeDescriptor;
 
-import static org.api.executors.JSoundExecutor.schema;
+import java.util.Map;
 
 public class TypeOrReference {
 
+    private final String stringType;
+    private Map<String, TypeDescriptor> types;
     private TypeDescriptor type;
-    private String stringType;
 
     public TypeOrReference(TypeDescriptor type) {
+        this.stringType = null;
         this.type = type;
     }
 
     public TypeOrReference(String stringType) {
+        this(stringType, SchemaContext.schemaTypes());
+    }
+
+    public TypeOrReference(String stringType, Map<String, TypeDescriptor> types) {
         this.stringType = stringType;
+        this.types = types;
     }
 
     public TypeDescriptor getTypeDescriptor() {
-        if (type == null) {
-            type = schema.getOrDefault(stringType, null);
-            if (type == null)
-                throw new TypeNotResolvedException("Type " + stringType + " could not be resolved.");
-        }
+        return type;
+    }
+
+    public TypeDescriptor resolve() {
+        if (type != null)
+            return type;
+        TypeDescriptor resolvedType = types.get(stringType);
+        if (resolvedType == null)
+            throw new TypeNotResolvedException("Type " + stringType + " could not be resolved.");
+        type = resolvedType;
+        types = null;
         return type;
     }
 
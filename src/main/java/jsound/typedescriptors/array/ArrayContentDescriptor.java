@@ -1,15 +1,27 @@
 package jsound.typedescriptors.array;
 
 import jsound.typedescriptors.TypeOrReference;
+import org.api.TypeDescriptor;
 
 public class ArrayContentDescriptor {
     private TypeOrReference type;
+    private TypeDescriptor typeDescriptor;
 
     public ArrayContentDescriptor(TypeOrReference type) {
         this.type = type;
+        this.typeDescriptor = type.getType();
+    }
+
+    public TypeDescriptor link() {
+        this.typeDescriptor = type.resolve();
+        return typeDescriptor;
     }
 
     public TypeOrReference getType() {
         return type;
     }
+
+    public TypeDescriptor getTypeDescriptor() {
+        return typeDescriptor;
+    }
 }
@@ -0,0 +1,72 @@
+package jsound.typedescriptors.array;
+
+import jsound.facets.ArrayFacets;
+import jsound.facets.FacetTypes;
+import jsound.typedescriptors.object.FieldDescriptor;
+import org.api.TypeDescriptor;
+
+import java.util.Set;
+
+import static jsound.facets.FacetTypes.CONTENT;
+import static jsound.facets.FacetTypes.ENUMERATION;
+import static jsound.facets.FacetTypes.MAX_LENGTH;
+import static jsound.facets.FacetTypes.MIN_LENGTH;
+
+class ArrayPlan {
+
+    private final boolean _checksEnumeration;
+    private final long _minLength;
+    private final long _maxLength;
+    private final TypeDescriptor _contentType;
+    private final boolean _hasUniqueContent;
+    private final boolean _hasNumericContent;
+
+    ArrayPlan(ArrayFacets facets) {
+        Set<FacetTypes> definedFacets = facets.getDefinedFacets();
+        this._checksEnumeration = definedFacets.contains(ENUMERATION);
+        this._minLength = definedFacets.contains(MIN_LENGTH) ? facets.minLength : 0;
+        this._maxLength = definedFacets.contains(MAX_LENGTH) ? facets.maxLength : Long.MAX_VALUE;
+        this._contentType = definedFacets.contains(CONTENT) ? facets.getArrayContent().getTypeDescriptor() : null;
+        this._hasUniqueContent = _contentType != null && hasUniqueFields(_contentType);
+        this._hasNumericContent = _contentType != null
+            && (_contentType.isIntegerType() || _contentType.isDecimalType() || _contentType.isDoubleType());
+    }
+
+    private static boolean hasUniqueFields(TypeDescriptor contentType) {
+        if (!contentType.isObjectType())
+            return false;
+        for (FieldDescriptor fieldDescriptor : contentType.getFacets().getObjectContent().values()) {
+            if (fieldDescriptor.isUnique())
+                return true;
+        }
+        return false;
+    }
+
+    boolean checksEnumeration() {
+        return _checksEnumeration;
+    }
+
+    boolean checksContent() {
+        return _contentType != null;
+    }
+
+    long getMinLength() {
+        return _minLength;
+    }
+
+    long getMaxLength() {
+        return _maxLength;
+    }
+
+    TypeDescriptor getContentType() {
+        return _contentType;
+    }
+
+    boolean hasUniqueContent() {
+        return _hasUniqueContent;
+    }
+
+    boolean hasNumericContent() {
+        return _hasNumericContent;
+    }
+}
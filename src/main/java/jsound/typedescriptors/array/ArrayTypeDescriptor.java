@@ -1,21 +1,34 @@
 package jsound.typedescriptors.array;
 
+import com.jsoniter.ValueType;
 import jsound.exceptions.InvalidSchemaException;
 import jsound.exceptions.LessRestrictiveFacetException;
 import jsound.typedescriptors.object.FieldDescriptor;
 import jsound.typedescriptors.object.ObjectTypeDescriptor;
 import jsound.facets.ArrayFacets;
+import jsound.facets.FacetCheck;
 import jsound.facets.FacetTypes;
+import jsound.atomicTypes.DecimalType;
+import jsound.atomicTypes.DoubleType;
+import jsound.atomicTypes.IntegerType;
 import jsound.item.ArrayItem;
+import jsound.item.DecimalArrayItem;
+import jsound.item.DoubleArrayItem;
+import jsound.item.IntegerArrayItem;
+import jsound.item.PrimitiveArrayItem;
+import jsound.json.InstanceReader;
 import org.api.Item;
 import org.api.TypeDescriptor;
 import jsound.typedescriptors.TypeOrReference;
 import jsound.types.ItemTypes;
 import jsound.tyson.TYSONArray;
+import jsound.tyson.TYSONAtomicArray;
 import jsound.tyson.TysonItem;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -23,6 +36,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static jsound.facets.FacetTypes.CONTENT;
+import static jsound.facets.FacetTypes.ENUMERATION;
 import static jsound.facets.FacetTypes.MAX_LENGTH;
 import static jsound.facets.FacetTypes.MIN_LENGTH;
 
@@ -30,6 +44,7 @@ public class ArrayTypeDescriptor extends TypeDescriptor {
 
     public static final Set<FacetTypes> _allowedFacets = new HashSet<>(Arrays.asList(CONTENT, MIN_LENGTH, MAX_LENGTH));
     private final ArrayFacets facets;
+    private ArrayPlan plan;
 
     public ArrayTypeDescriptor(String name, ArrayFacets facets) {
         super(ItemTypes.ARRAY, name);
@@ -48,45 +63,88 @@ public class ArrayTypeDescriptor extends TypeDescriptor {
 
     @Override
     public boolean validate(Item item, boolean isEnumValue) {
-        if (!item.isArray())
-            return false;
-        ArrayItem arrayItem = (ArrayItem) item;
-        for (FacetTypes facetType : this.getFacets().getDefinedFacets()) {
-            switch (facetType) {
-                case CONTENT:
-                    if (!validateContent(arrayItem))
-                        return false;
-                    break;
-                case MIN_LENGTH:
-                    if (arrayItem.getItems().size() < this.getFacets().minLength)
-                        return false;
-                    break;
-                case MAX_LENGTH:
-                    if (arrayItem.getItems().size() > this.getFacets().maxLength)
-                        return false;
-                    break;
-                case ENUMERATION:
-                    if (!validateEnumeration(arrayItem, isEnumValue))
-                        return false;
-                    break;
-                default:
-                    break;
-            }
+        return item.isArray() && validateFacets(item, isEnumValue);
+    }
+
+    @Override
+    protected void compile() {
+        super.compile();
+        this.plan = new ArrayPlan(this.getFacets());
+    }
+
+    @Override
+    protected FacetCheck[] createFacetChecks() {
+        Set<FacetTypes> definedFacets = this.getFacets().getDefinedFacets();
+        List<FacetCheck> facetChecks = new ArrayList<>();
+        if (definedFacets.contains(MIN_LENGTH)) {
+            int minLength = this.getFacets().minLength;
+            facetChecks.add((item, isEnumValue) -> item.getItems().size() >= minLength);
         }
-        return true;
+        if (definedFacets.contains(MAX_LENGTH)) {
+            int maxLength = this.getFacets().maxLength;
+            facetChecks.add((item, isEnumValue) -> item.getItems().size() <= maxLength);
+        }
+        if (definedFacets.contains(CONTENT))
+            facetChecks.add((item, isEnumValue) -> validateContent((ArrayItem) item));
+        if (definedFacets.contains(ENUMERATION))
+            facetChecks.add(this::validateEnumeration);
+        return facetChecks.toArray(new FacetCheck[0]);
     }
 
     private boolean validateContent(ArrayItem arrayItem) {
-        TypeDescriptor arrayItemType = this.getFacets().getArrayContent().getType().getTypeDescriptor();
+        TypeDescriptor arrayItemType = this.getFacets().getArrayContent().getTypeDescriptor();
+        if (hasPrimitiveContent(arrayItem, arrayItemType))
+            return validatePrimitiveContent((PrimitiveArrayItem) arrayItem, arrayItemType);
         for (Item itemInArray : arrayItem.getItems()) {
             if (!arrayItemType.validate(itemInArray, false))
                 return false;
         }
 
-        return !this.getFacets().getArrayContent().getType().getTypeDescriptor().isObjectType()
+        return !this.getFacets().getArrayContent().getTypeDescriptor().isObjectType()
             || this.isUniqueSatisfied(arrayItem.getItems());
     }
 
+    private static boolean hasPrimitiveContent(ArrayItem arrayItem, TypeDescriptor arrayItemType) {
+        if (arrayItem instanceof IntegerArrayItem)
+            return arrayItemType.isIntegerType() || arrayItemType.isDecimalType();
+        if (arrayItem instanceof DoubleArrayItem)
+            return arrayItemType.isDoubleType();
+        return arrayItem instanceof DecimalArrayItem && arrayItemType.isDecimalType();
+    }
+
+    private static boolean validatePrimitiveContent(PrimitiveArrayItem arrayItem, TypeDescriptor arrayItemType) {
+        if (arrayItem instanceof IntegerArrayItem && arrayItemType.isIntegerType()) {
+            IntegerArrayItem integers = (IntegerArrayItem) arrayItem;
+            IntegerType integerType = (IntegerType) arrayItemType;
+            for (int index = 0; index < integers.size(); index++) {
+                if (!integerType.validate(integers.getIntegerValue(index)))
+                    return false;
+            }
+        } else if (arrayItem instanceof IntegerArrayItem) {
+            IntegerArrayItem integers = (IntegerArrayItem) arrayItem;
+            DecimalType decimalType = (DecimalType) arrayItemType;
+            for (int index = 0; index < integers.size(); index++) {
+                if (!decimalType.validate(integers.getIntegerValue(index), 0))
+                    return false;
+            }
+        } else if (arrayItem instanceof DoubleArrayItem) {
+            DoubleArrayItem doubles = (DoubleArrayItem) arrayItem;
+            DoubleType doubleType = (DoubleType) arrayItemType;
+            for (int index = 0; index < doubles.size(); index++) {
+                if (!doubleType.validate(doubles.getDoubleValue(index)))
+                    return false;
+            }
+        } else {
+            DecimalArrayItem decimals = (DecimalArrayItem) arrayItem;
+            DecimalType decimalType = (DecimalType) arrayItemType;
+            for (int index = 0; index < decimals.size(); index++) {
+                if (!decimalType.validate(decimals.getUnscaledValue(index), decimals.getScale(index)))
+                    return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public TysonItem annotate(Item item) {
         ArrayItem arrayItem;
@@ -95,7 +153,9 @@ public class ArrayTypeDescriptor extends TypeDescriptor {
         } catch (ClassCastException e) {
             throw new InvalidSchemaException("Cannot annotate. An array is needed.");
         }
-        TypeDescriptor arrayItemType = this.getFacets().getArrayContent().getType().getTypeDescriptor();
+        TypeDescriptor arrayItemType = this.getFacets().getArrayContent().getTypeDescriptor();
+        if (arrayItemType.isAtomicType() && arrayItem instanceof PrimitiveArrayItem)
+            return new TYSONAtomicArray(this.getName(), arrayItemType.getName(), (PrimitiveArrayItem) arrayItem);
         TYSONArray array = new TYSONArray(this.getName());
         for (Item itemInArray : arrayItem.getItems()) {
             array.add(arrayItemType.annotate(itemInArray));
@@ -113,6 +173,12 @@ public class ArrayTypeDescriptor extends TypeDescriptor {
         return facets;
     }
 
+    @Override
+    public void linkReferences(Collection<TypeDescriptor> referencedTypes) {
+        super.linkReferences(referencedTypes);
+        referencedTypes.add(this.getFacets().getArrayContent().link());
+    }
+
     @Override
     protected boolean hasCompatibleType(TypeDescriptor typeDescriptor) {
         return typeDescriptor.isArrayType();
@@ -120,31 +186,65 @@ public class ArrayTypeDescriptor extends TypeDescriptor {
 
     private boolean isUniqueSatisfied(List<Item> arrayItems) {
         Map<String, Set<Item>> fieldsValues = new HashMap<>();
-        ObjectTypeDescriptor objectType = (ObjectTypeDescriptor) this.getFacets()
-            .getArrayContent()
-            .getType()
-            .getTypeDescriptor();
+        for (Item item : arrayItems) {
+            if (!addUniqueFieldsValues(item, fieldsValues))
+                return false;
+        }
+        return true;
+    }
+
+    private boolean addUniqueFieldsValues(Item item, Map<String, Set<Item>> fieldsValues) {
+        ObjectTypeDescriptor objectType = (ObjectTypeDescriptor) this.getFacets().getArrayContent().getTypeDescriptor();
         Map<String, FieldDescriptor> fields = objectType.getFacets().getObjectContent();
         for (String fieldName : fields.keySet()) {
-            if (fields.get(fieldName).isUnique()) {
-                for (Item item : arrayItems) {
-                    if (item.getItemMap().containsKey(fieldName)) {
-                        Item value = item.getItemMap().get(fieldName);
-                        if (fieldsValues.containsKey(fieldName)) {
-                            if (fieldsValues.get(fieldName).contains(value)) {
-                                return false;
-                            }
-                            fieldsValues.get(fieldName).add(value);
-                        } else {
-                            fieldsValues.put(fieldName, new HashSet<>(Collections.singleton(value)));
-                        }
-                    }
-                }
+            if (fields.get(fieldName).isUnique() && item.getItemMap().containsKey(fieldName)) {
+                Set<Item> values = fieldsValues.computeIfAbsent(fieldName, key -> new HashSet<>());
+                if (!values.add(item.getItemMap().get(fieldName)))
+                    return false;
             }
         }
         return true;
     }
 
+    @Override
+    public boolean validate(InstanceReader instance) throws IOException {
+        if (!instance.whatIsNext().equals(ValueType.ARRAY)) {
+            instance.skipValue();
+            return false;
+        }
+        if (plan.checksEnumeration())
+            return super.validate(instance);
+        if (plan.hasNumericContent()) {
+            PrimitiveArrayItem numbers = instance.readNumberArray();
+            if (numbers != null)
+                return numbers.size() >= plan.getMinLength()
+                    && numbers.size() <= plan.getMaxLength()
+                    && validateContent(numbers);
+        }
+        Map<String, Set<Item>> fieldsValues = plan.hasUniqueContent() ? new HashMap<>() : null;
+        long length = 0;
+        while (instance.readArray()) {
+            if (++length > plan.getMaxLength())
+                return false;
+            if (!plan.checksContent()) {
+                instance.skipValue();
+                continue;
+            }
+            if (fieldsValues == null) {
+                if (!plan.getContentType().validate(instance))
+                    return false;
+            } else {
+                Item itemInArray = instance.readItem();
+                if (
+                    !plan.getContentType().validate(itemInArray, false)
+                        || !addUniqueFieldsValues(itemInArray, fieldsValues)
+                )
+                    return false;
+            }
+        }
+        return length >= plan.getMinLength();
+    }
+
     @Override
     public void resolveAllFacets() {
         if (this.hasResolvedAllFacets)
@@ -187,14 +287,14 @@ public class ArrayTypeDescriptor extends TypeDescriptor {
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        if (this.baseTypeIsChecked)
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        if (!checkedTypes.add(this))
             return;
         ArrayTypeDescriptor arrayTypeDescriptor = (ArrayTypeDescriptor) typeDescriptor;
         for (FacetTypes facetType : this.getFacets().getDefinedFacets()) {
             switch (facetType) {
                 case CONTENT:
-                    isArrayContentMoreRestrictive(arrayTypeDescriptor);
+                    isArrayContentMoreRestrictive(arrayTypeDescriptor, checkedTypes);
                     break;
                 case MIN_LENGTH:
                 case MAX_LENGTH:
@@ -206,11 +306,10 @@ public class ArrayTypeDescriptor extends TypeDescriptor {
             }
         }
 
-        this.baseTypeIsChecked = true;
-        arrayTypeDescriptor.checkBaseType();
+        arrayTypeDescriptor.checkBaseType(checkedTypes);
     }
 
-    private void isArrayContentMoreRestrictive(ArrayTypeDescriptor typeDescriptor) {
+    private void isArrayContentMoreRestrictive(ArrayTypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
         if (!typeDescriptor.getFacets().getDefinedFacets().contains(CONTENT))
             return;
         this.getFacets()
@@ -218,7 +317,8 @@ public class ArrayTypeDescriptor extends TypeDescriptor {
             .getType()
             .getTypeDescriptor()
             .checkAgainstTypeDescriptor(
-                typeDescriptor.getFacets().getArrayContent().getType().getTypeDescriptor()
+                typeDescriptor.getFacets().getArrayContent().getType().getTypeDescriptor(),
+                checkedTypes
             );
     }
 
@@ -1,5 +1,7 @@
 package jsound.typedescriptors.atomic;
 
+import com.jsoniter.ValueType;
+import jsound.exceptions.InvalidEnumValueException;
 import jsound.exceptions.LessRestrictiveFacetException;
 import jsound.exceptions.UnexpectedTypeException;
 import jsound.atomicTypes.AnyURIType;
@@ -18,8 +20,12 @@ import jsound.atomicTypes.StringType;
 import jsound.atomicTypes.TimeType;
 import jsound.atomicTypes.YearMonthDurationType;
 import jsound.facets.AtomicFacets;
+import jsound.facets.EnumerationIndex;
+import jsound.facets.FacetCheck;
 import jsound.facets.FacetTypes;
+import jsound.facets.LongBounds;
 import jsound.facets.TimezoneFacet;
+import jsound.json.InstanceReader;
 import org.api.Item;
 import org.api.TypeDescriptor;
 import jsound.typedescriptors.TypeOrReference;
@@ -29,11 +35,15 @@ import jsound.tyson.TYSONValue;
 import jsound.tyson.TysonItem;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 
+import static jsound.facets.FacetTypes.ENUMERATION;
 import static jsound.facets.FacetTypes.EXPLICIT_TIMEZONE;
 import static jsound.facets.FacetTypes.FRACTION_DIGITS;
 import static jsound.facets.FacetTypes.LENGTH;
@@ -96,6 +106,16 @@ public class AtomicTypeDescriptor extends TypeDescriptor {
         return false;
     }
 
+    @Override
+    public boolean validate(InstanceReader instance) throws IOException {
+        ValueType valueType = instance.whatIsNext();
+        if (valueType.equals(ValueType.OBJECT) || valueType.equals(ValueType.ARRAY)) {
+            instance.skipValue();
+            return false;
+        }
+        return super.validate(instance);
+    }
+
     @Override
     public TysonItem annotate(Item item) {
         return new TYSONValue(this.getName(), item);
@@ -105,6 +125,33 @@ public class AtomicTypeDescriptor extends TypeDescriptor {
         return 0;
     }
 
+    protected Item toValueSpace(Item item) {
+        return item;
+    }
+
+    protected EnumerationIndex createEnumerationIndex(Item[] values) {
+        return null;
+    }
+
+    private EnumerationIndex createEnumerationIndex() {
+        List<Item> enumeration = this.getFacets().getEnumeration();
+        Item[] values = new Item[enumeration.size()];
+        for (int index = 0; index < values.length; index++) {
+            try {
+                values[index] = toValueSpace(enumeration.get(index));
+            } catch (IllegalArgumentException | UnexpectedTypeException e) {
+                throw new InvalidEnumValueException(
+                        "Value "
+                            + enumeration.get(index).getStringValue()
+                            + " in enumeration is not in the type value space for type "
+                            + this.getName()
+                            + "."
+                );
+            }
+        }
+        return createEnumerationIndex(values);
+    }
+
     @Override
     protected boolean hasCompatibleType(TypeDescriptor typeDescriptor) {
         return typeDescriptor.isAtomicType();
@@ -183,94 +230,113 @@ public class AtomicTypeDescriptor extends TypeDescriptor {
         }
     }
 
-    protected boolean validateLengthFacets(Item item, boolean isEnumerationItem) {
-        for (FacetTypes facetType : this.getFacets().getDefinedFacets()) {
-            switch (facetType) {
-                case LENGTH:
-                    if (item.getStringValue().length() != this.getFacets().length)
-                        return false;
-                    break;
-                case MIN_LENGTH:
-                    if (item.getStringValue().length() < this.getFacets().minLength)
-                        return false;
-                    break;
-                case MAX_LENGTH:
-                    if (item.getStringValue().length() > this.getFacets().maxLength)
-                        return false;
-                    break;
-                case ENUMERATION:
-                    if (!validateEnumeration(item, isEnumerationItem))
-                        return false;
-                    break;
-                default:
-                    break;
-            }
+    @Override
+    protected FacetCheck[] createFacetChecks() {
+        AtomicFacets facets = this.getFacets();
+        if (facets == null)
+            return new FacetCheck[0];
+        Set<FacetTypes> definedFacets = facets.getDefinedFacets();
+        List<FacetCheck> facetChecks = new ArrayList<>();
+        if (definedFacets.contains(LENGTH)) {
+            int length = facets.length;
+            facetChecks.add((item, isEnumValue) -> item.getStringLength() == length);
         }
-        return true;
-    }
-
-    protected boolean validateBoundariesFacets(Item item, boolean isEnumerationItem) {
-        for (FacetTypes facetType : this.getFacets().getDefinedFacets()) {
-            switch (facetType) {
-                case MIN_INCLUSIVE:
-                    if (!validateMinInclusive(item))
-                        return false;
-                    break;
-                case MIN_EXCLUSIVE:
-                    if (!validateMinExclusive(item))
-                        return false;
-                    break;
-                case MAX_INCLUSIVE:
-                    if (!validateMaxInclusive(item))
-                        return false;
-                    break;
-                case MAX_EXCLUSIVE:
-                    if (!validateMaxExclusive(item))
-                        return false;
-                    break;
-                case ENUMERATION:
-                    if (!validateEnumeration(item, isEnumerationItem))
-                        return false;
-                    break;
-                default:
-                    break;
-            }
+        if (definedFacets.contains(MIN_LENGTH)) {
+            int minLength = facets.minLength;
+            facetChecks.add((item, isEnumValue) -> item.getStringLength() >= minLength);
         }
-        return true;
-    }
-
-    protected boolean validateDigitsFacets(Item item) {
-        for (FacetTypes facetType : this.getFacets().getDefinedFacets()) {
-            switch (facetType) {
-                case TOTAL_DIGITS:
-                    if (item.castToDecimalValue().precision() > this.getFacets().totalDigits)
-                        return false;
-                    break;
-                case FRACTION_DIGITS:
-                    if (item.castToDecimalValue().scale() > this.getFacets().fractionDigits)
-                        return false;
-                    break;
-                default:
-                    break;
-            }
+        if (definedFacets.contains(MAX_LENGTH)) {
+            int maxLength = facets.maxLength;
+            facetChecks.add((item, isEnumValue) -> item.getStringLength() <= maxLength);
         }
-        return true;
-    }
-
-    protected boolean validateMinInclusive(Item item) {
-        return this.compare(item, this.getFacets().minInclusive) >= 0;
-    }
-
-    protected boolean validateMinExclusive(Item item) {
-        return this.compare(item, this.getFacets().minExclusive) > 0;
+        FacetCheck boundsCheck = createBoundsCheck(facets);
+        if (boundsCheck != null)
+            facetChecks.add(boundsCheck);
+        if (definedFacets.contains(TOTAL_DIGITS)) {
+            int totalDigits = facets.totalDigits;
+            facetChecks.add((item, isEnumValue) -> item.castToDecimalValue().precision() <= totalDigits);
+        }
+        if (definedFacets.contains(FRACTION_DIGITS)) {
+            int fractionDigits = facets.fractionDigits;
+            facetChecks.add((item, isEnumValue) -> item.castToDecimalValue().scale() <= fractionDigits);
+        }
+        if (definedFacets.contains(ENUMERATION)) {
+            EnumerationIndex enumerationIndex = createEnumerationIndex();
+            facetChecks.add((item, isEnumValue) -> validateEnumeration(item, isEnumValue, enumerationIndex));
+        }
+        return facetChecks.toArray(new FacetCheck[0]);
     }
 
-    protected boolean validateMaxInclusive(Item item) {
-        return this.compare(item, this.getFacets().maxInclusive) <= 0;
-    }
+    protected static final int MAX_LONG_DIGITS = 19;
 
-    protected boolean validateMaxExclusive(Item item) {
-        return this.compare(item, this.getFacets().maxExclusive) < 0;
+    protected static int countDigits(long value) {
+        int digits = 1;
+        while (value <= -10 || value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    protected FacetCheck createBoundsCheck(AtomicFacets facets) {
+        FacetTypes lowerBoundFacet = getLowerBoundFacet(facets);
+        FacetTypes upperBoundFacet = getUpperBoundFacet(facets);
+        if (lowerBoundFacet == null && upperBoundFacet == null)
+            return null;
+        Item lowerBound = lowerBoundFacet == null ? null : toValueSpace(getBound(facets, lowerBoundFacet));
+        Item upperBound = upperBoundFacet == null ? null : toValueSpace(getBound(facets, upperBoundFacet));
+        int lowerLimit = lowerBoundFacet == MIN_EXCLUSIVE ? 1 : 0;
+        int upperLimit = upperBoundFacet == MAX_EXCLUSIVE ? -1 : 0;
+        return (item, isEnumValue) -> (lowerBound == null || this.compare(item, lowerBound) >= lowerLimit)
+            && (upperBound == null || this.compare(item, upperBound) <= upperLimit);
+    }
+
+    protected FacetCheck createEpochMillisBoundsCheck(AtomicFacets facets, ToLongFunction<Item> epochMillis) {
+        FacetTypes lowerBoundFacet = getLowerBoundFacet(facets);
+        FacetTypes upperBoundFacet = getUpperBoundFacet(facets);
+        if (lowerBoundFacet == null && upperBoundFacet == null)
+            return null;
+        long lower = lowerBoundFacet == null
+            ? Long.MIN_VALUE
+            : epochMillis.applyAsLong(getBound(facets, lowerBoundFacet)) + (lowerBoundFacet == MIN_EXCLUSIVE ? 1 : 0);
+        long upper = upperBoundFacet == null
+            ? Long.MAX_VALUE
+            : epochMillis.applyAsLong(getBound(facets, upperBoundFacet)) - (upperBoundFacet == MAX_EXCLUSIVE ? 1 : 0);
+        LongBounds bounds = new LongBounds(lower, upper);
+        return (item, isEnumValue) -> bounds.contains(epochMillis.applyAsLong(item));
+    }
+
+    protected FacetTypes getLowerBoundFacet(AtomicFacets facets) {
+        Set<FacetTypes> definedFacets = facets.getDefinedFacets();
+        if (!definedFacets.contains(MIN_EXCLUSIVE))
+            return definedFacets.contains(MIN_INCLUSIVE) ? MIN_INCLUSIVE : null;
+        if (!definedFacets.contains(MIN_INCLUSIVE))
+            return MIN_EXCLUSIVE;
+        return this.compare(facets.minInclusive, facets.minExclusive) > 0 ? MIN_INCLUSIVE : MIN_EXCLUSIVE;
+    }
+
+    protected FacetTypes getUpperBoundFacet(AtomicFacets facets) {
+        Set<FacetTypes> definedFacets = facets.getDefinedFacets();
+        if (!definedFacets.contains(MAX_EXCLUSIVE))
+            return definedFacets.contains(MAX_INCLUSIVE) ? MAX_INCLUSIVE : null;
+        if (!definedFacets.contains(MAX_INCLUSIVE))
+            return MAX_EXCLUSIVE;
+        return this.compare(facets.maxInclusive, facets.maxExclusive) < 0 ? MAX_INCLUSIVE : MAX_EXCLUSIVE;
+    }
+
+    protected static Item getBound(AtomicFacets facets, FacetTypes facetType) {
+        if (facetType == null)
+            return null;
+        switch (facetType) {
+            case MIN_INCLUSIVE:
+                return facets.minInclusive;
+            case MIN_EXCLUSIVE:
+                return facets.minExclusive;
+            case MAX_INCLUSIVE:
+                return facets.maxInclusive;
+            default:
+                return facets.maxExclusive;
+        }
     }
 
     @Override
@@ -334,38 +400,35 @@ public class AtomicTypeDescriptor extends TypeDescriptor {
         }
     }
 
-    protected void checkBoundariesAndDigitsFacets(TypeDescriptor typeDescriptor) {
-        if (this.baseTypeIsChecked)
+    protected void checkBoundariesAndDigitsFacets(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        if (!checkedTypes.add(this))
             return;
         AtomicTypeDescriptor atomicTypeDescriptor = (AtomicTypeDescriptor) typeDescriptor;
         areBoundariesMoreRestrictive(atomicTypeDescriptor.getFacets());
         areDigitsFacetsMoreRestrictive(atomicTypeDescriptor.getFacets());
-        this.baseTypeIsChecked = true;
-        atomicTypeDescriptor.checkBaseType();
+        atomicTypeDescriptor.checkBaseType(checkedTypes);
     }
 
-    protected void checkBoundariesAndTimezoneFacets(TypeDescriptor typeDescriptor) {
-        if (this.baseTypeIsChecked)
+    protected void checkBoundariesAndTimezoneFacets(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        if (!checkedTypes.add(this))
             return;
         AtomicTypeDescriptor atomicTypeDescriptor = (AtomicTypeDescriptor) typeDescriptor;
         areBoundariesMoreRestrictive(atomicTypeDescriptor.getFacets());
         if (this.getFacets().getDefinedFacets().contains(EXPLICIT_TIMEZONE))
             isExplicitTimezoneMoreRestrictive(atomicTypeDescriptor.getFacets());
-        this.baseTypeIsChecked = true;
-        atomicTypeDescriptor.checkBaseType();
+        atomicTypeDescriptor.checkBaseType(checkedTypes);
     }
 
-    protected void checkBoundariesFacet(TypeDescriptor typeDescriptor) {
-        if (this.baseTypeIsChecked)
+    protected void checkBoundariesFacet(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        if (!checkedTypes.add(this))
             return;
         AtomicTypeDescriptor atomicTypeDescriptor = (AtomicTypeDescriptor) typeDescriptor;
         areBoundariesMoreRestrictive(atomicTypeDescriptor.getFacets());
-        this.baseTypeIsChecked = true;
-        atomicTypeDescriptor.checkBaseType();
+        atomicTypeDescriptor.checkBaseType(checkedTypes);
     }
 
-    protected void areLengthFacetsMoreRestrictive(TypeDescriptor typeDescriptor) {
-        if (this.baseTypeIsChecked)
+    protected void areLengthFacetsMoreRestrictive(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        if (!checkedTypes.add(this))
             return;
         AtomicTypeDescriptor baseTypeDescriptor = (AtomicTypeDescriptor) typeDescriptor;
         for (FacetTypes facetType : this.getFacets().getDefinedFacets()) {
@@ -407,8 +470,7 @@ public class AtomicTypeDescriptor extends TypeDescriptor {
                         );
             }
         }
-        this.baseTypeIsChecked = true;
-        baseTypeDescriptor.checkBaseType();
+        baseTypeDescriptor.checkBaseType(checkedTypes);
     }
 
     protected void areBoundariesMoreRestrictive(AtomicFacets facets) {
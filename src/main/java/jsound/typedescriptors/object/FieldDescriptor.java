@@ -1,16 +1,19 @@
 package jsound.typedescriptors.object;
 
 import org.api.Item;
+import org.api.TypeDescriptor;
 import jsound.typedescriptors.TypeOrReference;
 
+import java.util.Set;
+
 public class FieldDescriptor {
     public String name;
     private TypeOrReference type;
+    private TypeDescriptor typeDescriptor;
     private Boolean required = false;
     private Item defaultValue = null;
     private boolean unique = false;
     private boolean requiredIsSet = false;
-    boolean defaultIsChecked = false;
 
     public void setName(String name) {
         this.name = name;
@@ -18,6 +21,12 @@ public class FieldDescriptor {
 
     public void setType(TypeOrReference type) {
         this.type = type;
+        this.typeDescriptor = type.getType();
+    }
+
+    public TypeDescriptor link() {
+        this.typeDescriptor = type.resolve();
+        return typeDescriptor;
     }
 
     public void setRequired(Boolean required) {
@@ -41,6 +50,10 @@ public class FieldDescriptor {
         return type;
     }
 
+    public TypeDescriptor getTypeDescriptor() {
+        return typeDescriptor;
+    }
+
     public boolean isRequired() {
         return required;
     }
@@ -57,8 +70,8 @@ public class FieldDescriptor {
         return requiredIsSet;
     }
 
-    public void isMoreRestrictive(ObjectTypeDescriptor baseTypeDescriptor) {
-        this.getTypeOrReference().getTypeDescriptor().checkBaseType();
+    public void isMoreRestrictive(ObjectTypeDescriptor baseTypeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        this.getTypeOrReference().getTypeDescriptor().checkBaseType(checkedTypes);
         this.getTypeOrReference()
             .getTypeDescriptor()
             .checkAgainstTypeDescriptor(
@@ -66,7 +79,8 @@ public class FieldDescriptor {
                     .getObjectContent()
                     .get(this.getName())
                     .getTypeOrReference()
-                    .getTypeDescriptor()
+                    .getTypeDescriptor(),
+                checkedTypes
             );
     }
 }
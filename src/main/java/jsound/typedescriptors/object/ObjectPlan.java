@@ -0,0 +1,91 @@
+package jsound.typedescriptors.object;
+
+import jsound.facets.FacetTypes;
+import jsound.facets.ObjectFacets;
+import org.api.TypeDescriptor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static jsound.facets.FacetTypes.CLOSED;
+import static jsound.facets.FacetTypes.CONTENT;
+import static jsound.facets.FacetTypes.ENUMERATION;
+
+class ObjectPlan {
+
+    private final boolean _checksEnumeration;
+    private final boolean _checksContent;
+    private final boolean _checksClosed;
+    private final Map<String, Integer> _fieldIndexes;
+    private final TypeDescriptor[] _fieldTypes;
+    private final int[] _requiredBits;
+    private final int _requiredCount;
+
+    ObjectPlan(ObjectFacets facets) {
+        Set<FacetTypes> definedFacets = facets.getDefinedFacets();
+        Map<String, FieldDescriptor> objectContent = facets.getObjectContent();
+        Map<String, Integer> indexes = new HashMap<>();
+        TypeDescriptor[] types = new TypeDescriptor[objectContent.size()];
+        int[] bits = new int[types.length];
+        int required = 0;
+        for (Map.Entry<String, FieldDescriptor> entry : objectContent.entrySet()) {
+            int index = indexes.size();
+            FieldDescriptor fieldDescriptor = entry.getValue();
+            indexes.put(entry.getKey(), index);
+            types[index] = fieldDescriptor.getTypeDescriptor();
+            bits[index] = fieldDescriptor.isRequired() && fieldDescriptor.getDefaultValue() == null ? required++ : -1;
+        }
+        this._checksEnumeration = definedFacets.contains(ENUMERATION);
+        this._checksContent = definedFacets.contains(CONTENT);
+        this._checksClosed = definedFacets.contains(CLOSED) && facets.isClosed();
+        this._fieldIndexes = indexes;
+        this._fieldTypes = types;
+        this._requiredBits = bits;
+        this._requiredCount = required;
+    }
+
+    boolean checksEnumeration() {
+        return _checksEnumeration;
+    }
+
+    boolean checksContent() {
+        return _checksContent;
+    }
+
+    boolean checksClosed() {
+        return _checksClosed;
+    }
+
+    int getFieldIndex(String key) {
+        Integer index = _fieldIndexes.get(key);
+        return index == null ? -1 : index;
+    }
+
+    TypeDescriptor getFieldType(int field) {
+        return _fieldTypes[field];
+    }
+
+    long[] createPresentWords() {
+        return _requiredCount > Long.SIZE ? new long[(_requiredCount + Long.SIZE - 1) / Long.SIZE] : null;
+    }
+
+    long markPresent(long presentFields, long[] presentWords, int field) {
+        int bit = _requiredBits[field];
+        if (bit < 0)
+            return presentFields;
+        if (presentWords == null)
+            return presentFields | 1L << bit;
+        presentWords[bit / Long.SIZE] |= 1L << bit;
+        return presentFields;
+    }
+
+    boolean hasRequiredFields(long presentFields, long[] presentWords) {
+        if (presentWords == null)
+            return Long.bitCount(presentFields) == _requiredCount;
+        int present = 0;
+        for (long word : presentWords)
+            present += Long.bitCount(word);
+        return present == _requiredCount;
+    }
+}
@@ -1,14 +1,18 @@
 package jsound.typedescriptors.object;
 
+import com.jsoniter.ValueType;
 import jsound.exceptions.ClosedNotRespectedException;
 import jsound.exceptions.ClosedSetBackToFalseException;
 import jsound.exceptions.InvalidSchemaException;
 import jsound.exceptions.LessRestrictiveFacetException;
 import jsound.exceptions.RequiredSertBackToFalseException;
+import jsound.facets.FacetCheck;
 import jsound.facets.FacetTypes;
 import jsound.facets.ObjectFacets;
+import jsound.json.InstanceReader;
 import org.api.Item;
 import jsound.item.ObjectItem;
+import jsound.item.ShapedObjectItem;
 import org.api.TypeDescriptor;
 import jsound.typedescriptors.TypeOrReference;
 import jsound.types.ItemTypes;
@@ -16,18 +20,25 @@ import jsound.tyson.TYSONObject;
 import jsound.tyson.TYSONValue;
 import jsound.tyson.TysonItem;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static jsound.facets.FacetTypes.CLOSED;
 import static jsound.facets.FacetTypes.CONTENT;
+import static jsound.facets.FacetTypes.ENUMERATION;
 
 
 public class ObjectTypeDescriptor extends TypeDescriptor {
 
     public static final Set<FacetTypes> _allowedFacets = new HashSet<>(Arrays.asList(CONTENT, CLOSED));
     private final ObjectFacets facets;
+    private ObjectPlan plan;
 
     public ObjectTypeDescriptor(String name, ObjectFacets facets) {
         super(ItemTypes.OBJECT, name);
@@ -59,42 +70,45 @@ public class ObjectTypeDescriptor extends TypeDescriptor {
         return facets;
     }
 
+    @Override
+    public void linkReferences(Collection<TypeDescriptor> referencedTypes) {
+        super.linkReferences(referencedTypes);
+        for (FieldDescriptor fieldDescriptor : this.getFacets().getObjectContent().values())
+            referencedTypes.add(fieldDescriptor.link());
+    }
+
     @Override
     public boolean validate(Item item, boolean isEnumValue) {
-        if (!item.isObject())
-            return false;
-        ObjectItem objectItem = (ObjectItem) item;
-        for (FacetTypes facetType : this.getFacets().getDefinedFacets()) {
-            switch (facetType) {
-                case CONTENT:
-                    if (!validateContentFacet(objectItem))
-                        return false;
-                    break;
-                case CLOSED:
-                    if (!validateClosedFacet(objectItem))
-                        return false;
-                    break;
-                case ENUMERATION:
-                    if (!validateEnumeration(objectItem, isEnumValue))
-                        return false;
-                    break;
-                default:
-                    break;
-            }
-        }
-        return true;
+        return item.isObject() && validateFacets(item, isEnumValue);
+    }
+
+    @Override
+    protected void compile() {
+        super.compile();
+        this.plan = new ObjectPlan(this.getFacets());
+    }
+
+    @Override
+    protected FacetCheck[] createFacetChecks() {
+        Set<FacetTypes> definedFacets = this.getFacets().getDefinedFacets();
+        List<FacetCheck> facetChecks = new ArrayList<>();
+        if (definedFacets.contains(CLOSED) && this.getFacets().isClosed())
+            facetChecks.add((item, isEnumValue) -> validateClosedFacet((ObjectItem) item));
+        if (definedFacets.contains(CONTENT))
+            facetChecks.add((item, isEnumValue) -> validateContentFacet((ObjectItem) item));
+        if (definedFacets.contains(ENUMERATION))
+            facetChecks.add(this::validateEnumeration);
+        return facetChecks.toArray(new FacetCheck[0]);
     }
 
     private boolean validateContentFacet(ObjectItem objectItem) {
-        for (String fieldName : this.getFacets().getObjectContent().keySet()) {
-            FieldDescriptor fieldDescriptor = this.getFacets().getObjectContent().get(fieldName);
-            if (objectItem.getItemMap().containsKey(fieldName)) {
-                if (
-                    !fieldDescriptor
-                        .getTypeOrReference()
-                        .getTypeDescriptor()
-                        .validate(objectItem.getItemMap().get(fieldName), false)
-                )
+        int[] fieldIndexes = getFieldIndexes(objectItem);
+        int field = 0;
+        for (Map.Entry<String, FieldDescriptor> entry : this.getFacets().getObjectContent().entrySet()) {
+            FieldDescriptor fieldDescriptor = entry.getValue();
+            Item fieldValue = getFieldValue(objectItem, entry.getKey(), fieldIndexes, field++);
+            if (fieldValue != null) {
+                if (!fieldDescriptor.getTypeDescriptor().validate(fieldValue, false))
                     return false;
             } else if (fieldDescriptor.isRequired() && fieldDescriptor.getDefaultValue() == null)
                 return false;
@@ -102,23 +116,63 @@ public class ObjectTypeDescriptor extends TypeDescriptor {
         return true;
     }
 
+    private int[] getFieldIndexes(ObjectItem objectItem) {
+        if (!(objectItem instanceof ShapedObjectItem))
+            return null;
+        return ((ShapedObjectItem) objectItem).getShape().indexesOf(this.getFacets().getObjectContent());
+    }
+
+    private static Item getFieldValue(ObjectItem objectItem, String fieldName, int[] fieldIndexes, int field) {
+        if (fieldIndexes == null)
+            return objectItem.getItemMap().get(fieldName);
+        return fieldIndexes[field] < 0 ? null : ((ShapedObjectItem) objectItem).getItem(fieldIndexes[field]);
+    }
+
     private boolean validateClosedFacet(ObjectItem objectItem) {
-        if (this.getFacets().isClosed()) {
-            for (String key : objectItem.getItemMap().keySet()) {
-                if (!this.getFacets().getObjectContent().containsKey(key)) {
-                    throw new ClosedNotRespectedException(
-                            "Type "
-                                + this.getName()
-                                + " is closed, and the \"content\" facet does not allow for field "
-                                + key
-                                + "."
-                    );
-                }
+        for (String key : objectItem.getItemMap().keySet()) {
+            if (!this.getFacets().getObjectContent().containsKey(key)) {
+                throw closedNotRespected(key);
             }
         }
         return true;
     }
 
+    private ClosedNotRespectedException closedNotRespected(String key) {
+        return new ClosedNotRespectedException(
+                "Type "
+                    + this.getName()
+                    + " is closed, and the \"content\" facet does not allow for field "
+                    + key
+                    + "."
+        );
+    }
+
+    @Override
+    public boolean validate(InstanceReader instance) throws IOException {
+        if (!instance.whatIsNext().equals(ValueType.OBJECT)) {
+            instance.skipValue();
+            return false;
+        }
+        if (plan.checksEnumeration())
+            return super.validate(instance);
+        long presentFields = 0;
+        long[] presentWords = plan.createPresentWords();
+        String key;
+        while ((key = instance.readObjectKey()) != null) {
+            int field = plan.getFieldIndex(key);
+            if (field < 0 && plan.checksClosed())
+                throw closedNotRespected(key);
+            if (field < 0 || !plan.checksContent()) {
+                instance.skipValue();
+                continue;
+            }
+            presentFields = plan.markPresent(presentFields, presentWords, field);
+            if (!plan.getFieldType(field).validate(instance))
+                return false;
+        }
+        return !plan.checksContent() || plan.hasRequiredFields(presentFields, presentWords);
+    }
+
     @Override
     public TysonItem annotate(Item item) {
         ObjectItem objectItem;
@@ -129,19 +183,18 @@ public class ObjectTypeDescriptor extends TypeDescriptor {
         }
 
         TYSONObject object = new TYSONObject(this.getName());
-        for (String fieldName : this.getFacets().getObjectContent().keySet()) {
-            FieldDescriptor fieldDescriptor = this.getFacets().getObjectContent().get(fieldName);
-            if (objectItem.getItemMap().containsKey(fieldName)) {
-                object.put(
-                    fieldName,
-                    fieldDescriptor.getTypeOrReference()
-                        .getTypeDescriptor()
-                        .annotate(objectItem.getItemMap().get(fieldName))
-                );
+        int[] fieldIndexes = getFieldIndexes(objectItem);
+        int field = 0;
+        for (Map.Entry<String, FieldDescriptor> entry : this.getFacets().getObjectContent().entrySet()) {
+            String fieldName = entry.getKey();
+            FieldDescriptor fieldDescriptor = entry.getValue();
+            Item fieldValue = getFieldValue(objectItem, fieldName, fieldIndexes, field++);
+            if (fieldValue != null) {
+                object.put(fieldName, fieldDescriptor.getTypeDescriptor().annotate(fieldValue));
             } else if (fieldDescriptor.getDefaultValue() != null) {
                 object.put(
                     fieldName,
-                    fieldDescriptor.getTypeOrReference().getTypeDescriptor().annotate(fieldDescriptor.getDefaultValue())
+                    fieldDescriptor.getTypeDescriptor().annotate(fieldDescriptor.getDefaultValue())
                 );
             }
         }
@@ -222,8 +275,8 @@ public class ObjectTypeDescriptor extends TypeDescriptor {
     }
 
     @Override
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
-        if (this.baseTypeIsChecked)
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+        if (!checkedTypes.add(this))
             return;
         ObjectTypeDescriptor objectTypeDescriptor = (ObjectTypeDescriptor) typeDescriptor;
         if (!objectTypeDescriptor.isObjectType())
@@ -236,42 +289,39 @@ public class ObjectTypeDescriptor extends TypeDescriptor {
         for (FacetTypes facetType : this.getFacets().getDefinedFacets()) {
             switch (facetType) {
                 case CONTENT:
-                    isObjectContentMoreRestrictive(objectTypeDescriptor);
+                    isObjectContentMoreRestrictive(objectTypeDescriptor, checkedTypes);
                     break;
                 case ENUMERATION:
                     isEnumerationMoreRestrictive(objectTypeDescriptor.facets);
                     break;
             }
         }
-        this.baseTypeIsChecked = true;
-        objectTypeDescriptor.checkBaseType();
+        objectTypeDescriptor.checkBaseType(checkedTypes);
     }
 
-    private void isObjectContentMoreRestrictive(ObjectTypeDescriptor baseTypeDescriptor) {
+    private void isObjectContentMoreRestrictive(ObjectTypeDescriptor baseType, Set<TypeDescriptor> checkedTypes) {
         validateDefaultValues();
-        if (!baseTypeDescriptor.getFacets().getDefinedFacets().contains(CONTENT))
+        if (!baseType.getFacets().getDefinedFacets().contains(CONTENT))
             return;
         for (FieldDescriptor fieldDescriptor : this.getFacets().getObjectContent().values()) {
-            if (baseTypeDescriptor.getFacets().getObjectContent().containsKey(fieldDescriptor.getName()))
-                fieldDescriptor.isMoreRestrictive(baseTypeDescriptor);
+            if (baseType.getFacets().getObjectContent().containsKey(fieldDescriptor.getName()))
+                fieldDescriptor.isMoreRestrictive(baseType, checkedTypes);
         }
     }
 
     private void validateDefaultValues() {
         for (FieldDescriptor fieldDescriptor : this.getFacets().getObjectContent().values()) {
-            if (fieldDescriptor.getDefaultValue() != null && !fieldDescriptor.defaultIsChecked) {
-                if (
-                    !fieldDescriptor.getTypeOrReference()
+            if (
+                fieldDescriptor.getDefaultValue() != null
+                    && !fieldDescriptor.getTypeOrReference()
                         .getTypeDescriptor()
                         .validate(fieldDescriptor.getDefaultValue(), false)
-                )
-                    throw new InvalidSchemaException(
-                            "The default value for field "
-                                + this.getName()
-                                + " is not valid against its type."
-                    );
-                fieldDescriptor.defaultIsChecked = true;
-            }
+            )
+                throw new InvalidSchemaException(
+                        "The default value for field "
+                            + this.getName()
+                            + " is not valid against its type."
+                );
         }
     }
 }
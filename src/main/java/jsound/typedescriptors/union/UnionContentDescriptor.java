@@ -1,18 +1,32 @@
 package jsound.typedescriptors.union;
 
 import jsound.typedescriptors.TypeOrReference;
+import org.api.TypeDescriptor;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class UnionContentDescriptor {
     private List<TypeOrReference> types;
+    private TypeDescriptor[] typeDescriptors = new TypeDescriptor[0];
 
     public UnionContentDescriptor() {
         types = new ArrayList<>();
     }
 
+    public TypeDescriptor[] link() {
+        TypeDescriptor[] linked = new TypeDescriptor[types.size()];
+        for (int index = 0; index < linked.length; index++)
+            linked[index] = types.get(index).resolve();
+        typeDescriptors = linked;
+        return typeDescriptors;
+    }
+
     public List<TypeOrReference> getTypes() {
         return types;
     }
+
+    public TypeDescriptor[] getTypeDescriptors() {
+        return typeDescriptors;
+    }
 }
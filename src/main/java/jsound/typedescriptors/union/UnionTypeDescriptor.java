@@ -1,20 +1,25 @@
 package jsound.typedescriptors.union;
 
 import jsound.exceptions.InvalidSchemaException;
+import jsound.facets.FacetCheck;
 import jsound.facets.FacetTypes;
 import jsound.facets.UnionFacets;
 import org.api.Item;
 import org.api.TypeDescriptor;
-import jsound.typedescriptors.TypeOrReference;
 import jsound.types.ItemTypes;
 import jsound.tyson.TYSONValue;
 import jsound.tyson.TysonItem;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static jsound.facets.FacetTypes.CONTENT;
+import static jsound.facets.FacetTypes.ENUMERATION;
 
 public class UnionTypeDescriptor extends TypeDescriptor {
 
@@ -42,26 +47,23 @@ public class UnionTypeDescriptor extends TypeDescriptor {
 
     @Override
     public boolean validate(Item item, boolean isEnumValue) {
-        for (FacetTypes facetType : this.getFacets().getDefinedFacets()) {
-            switch (facetType) {
-                case CONTENT:
-                    if (!validateContentFacet(item))
-                        return false;
-                    break;
-                case ENUMERATION:
-                    if (!validateEnumeration(item, isEnumValue))
-                        return false;
-                    break;
-                default:
-                    break;
-            }
-        }
-        return true;
+        return validateFacets(item, isEnumValue);
+    }
+
+    @Override
+    protected FacetCheck[] createFacetChecks() {
+        Set<FacetTypes> definedFacets = this.getFacets().getDefinedFacets();
+        List<FacetCheck> facetChecks = new ArrayList<>();
+        if (definedFacets.contains(CONTENT))
+            facetChecks.add((item, isEnumValue) -> validateContentFacet(item));
+        if (definedFacets.contains(ENUMERATION))
+            facetChecks.add(this::validateEnumeration);
+        return facetChecks.toArray(new FacetCheck[0]);
     }
 
     private boolean validateContentFacet(Item item) {
-        for (TypeOrReference typeOrReference : this.getFacets().getUnionContent().getTypes()) {
-            if (typeOrReference.getTypeDescriptor().validate(item, false))
+        for (TypeDescriptor typeDescriptor : this.getFacets().getUnionContent().getTypeDescriptors()) {
+            if (typeDescriptor.validate(item, false))
                 return true;
         }
         return false;
@@ -69,9 +71,9 @@ public class UnionTypeDescriptor extends TypeDescriptor {
 
     @Override
     public TysonItem annotate(Item item) {
-        for (TypeOrReference typeOrReference : this.getFacets().getUnionContent().getTypes()) {
-            if (typeOrReference.getTypeDescriptor().validate(item, false))
-                return new TYSONValue(typeOrReference.getTypeDescriptor().getName(), item);
+        for (TypeDescriptor typeDescriptor : this.getFacets().getUnionContent().getTypeDescriptors()) {
+            if (typeDescriptor.validate(item, false))
+                return new TYSONValue(typeDescriptor.getName(), item);
         }
         throw new InvalidSchemaException(
                 item.getStringValue() + " is not valid against any type of union " + this.getName()
@@ -83,6 +85,12 @@ public class UnionTypeDescriptor extends TypeDescriptor {
         return facets;
     }
 
+    @Override
+    public void linkReferences(Collection<TypeDescriptor> referencedTypes) {
+        super.linkReferences(referencedTypes);
+        referencedTypes.addAll(Arrays.asList(this.getFacets().getUnionContent().link()));
+    }
+
     @Override
     protected boolean hasCompatibleType(TypeDescriptor typeDescriptor) {
         return typeDescriptor.isUnionType();
@@ -0,0 +1,32 @@
+package jsound.tyson;
+
+import jsound.item.PrimitiveArrayItem;
+
+public class TYSONAtomicArray implements TysonItem {
+
+    private String typeName;
+    private String itemTypeName;
+    private PrimitiveArrayItem arrayItem;
+
+    public TYSONAtomicArray(String typeName, String itemTypeName, PrimitiveArrayItem arrayItem) {
+        this.typeName = typeName;
+        this.itemTypeName = itemTypeName;
+        this.arrayItem = arrayItem;
+    }
+
+    public String toTYSONString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("(\"").append(typeName).append("\") ").append('[');
+        TYSONObject.newLineIncreaseCounter(sb);
+        for (int index = 0; index < arrayItem.size(); index++) {
+            if (index > 0) {
+                sb.append(", ");
+                TYSONObject.newLine(sb);
+            }
+            sb.append("(\"").append(itemTypeName).append("\") ").append(arrayItem.getStringAnnotation(index));
+        }
+        TYSONObject.newLineDecreaseCounter(sb);
+        sb.append(']');
+        return sb.toString();
+    }
+}
@@ -9,7 +9,7 @@ import java.util.Map;
 public class TYSONObject extends LinkedHashMap<String, TysonItem> implements TysonItem {
 
     private String typeName;
-    public static int tabCounter = 0;
+    private static final ThreadLocal<int[]> tabCounter = ThreadLocal.withInitial(() -> new int[1]);
 
     public TYSONObject(String typeName) {
         this.typeName = typeName;
@@ -65,7 +65,7 @@ public class TYSONObject extends LinkedHashMap<String, TysonItem> implements Tys
 
     public static void newLineIncreaseCounter(StringBuilder sb) {
         sb.append("\n");
-        tabCounter++;
+        tabCounter.get()[0]++;
         format(sb);
     }
 
@@ -75,14 +75,15 @@ public class TYSONObject extends LinkedHashMap<String, TysonItem> implements Tys
     }
 
     private static void format(StringBuilder sb) {
-        for (int i = 0; i < tabCounter; i++) {
+        int tabs = tabCounter.get()[0];
+        for (int i = 0; i < tabs; i++) {
             sb.append("    ");
         }
     }
 
     public static void newLineDecreaseCounter(StringBuilder sb) {
         sb.append("\n");
-        tabCounter--;
+        tabCounter.get()[0]--;
         format(sb);
     }
 }
@@ -0,0 +1,38 @@
+package org.api;
+
+public class BatchValidationResult {
+
+    private final long recordCount;
+    private final long validCount;
+    private final long elapsedNanos;
+
+    public BatchValidationResult(long recordCount, long validCount, long elapsedNanos) {
+        this.recordCount = recordCount;
+        this.validCount = validCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public long getValidCount() {
+        return validCount;
+    }
+
+    public long getInvalidCount() {
+        return recordCount - validCount;
+    }
+
+    public boolean isValid() {
+        return validCount == recordCount;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    public double getRecordsPerSecond() {
+        return elapsedNanos == 0 ? 0 : recordCount / getElapsedSeconds();
+    }
+}
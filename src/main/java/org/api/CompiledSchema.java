@@ -0,0 +1,75 @@
+package org.api;
+
+import jsound.exceptions.CliException;
+import jsound.facets.FacetTypes;
+import jsound.facets.Facets;
+import jsound.item.InternTable;
+import jsound.typedescriptors.object.ObjectTypeDescriptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class CompiledSchema {
+
+    private final Map<String, TypeDescriptor> types;
+    private final TypeDescriptor rootType;
+    private final InternTable internTable;
+
+    public CompiledSchema(
+            Map<String, TypeDescriptor> types,
+            String rootTypeName,
+            Collection<TypeDescriptor> linkedTypes
+    ) {
+        this.types = Collections.unmodifiableMap(new HashMap<>(types));
+        this.rootType = this.types.get(rootTypeName);
+        if (this.rootType == null)
+            throw new CliException("The specified root type was not defined in the schema.");
+        for (TypeDescriptor typeDescriptor : linkedTypes)
+            typeDescriptor.compile();
+        this.internTable = createInternTable(linkedTypes);
+    }
+
+    private static InternTable createInternTable(Collection<TypeDescriptor> types) {
+        Set<String> fieldNames = new HashSet<>();
+        List<Item> enumerationValues = new ArrayList<>();
+        for (TypeDescriptor typeDescriptor : types) {
+            if (typeDescriptor.isObjectType())
+                fieldNames.addAll(((ObjectTypeDescriptor) typeDescriptor).getFacets().getObjectContent().keySet());
+            Facets facets = typeDescriptor.getFacets();
+            if (facets != null && facets.getDefinedFacets().contains(FacetTypes.ENUMERATION)) {
+                for (Item value : facets.getEnumeration()) {
+                    if (value.isString())
+                        enumerationValues.add(value);
+                }
+            }
+        }
+        InternTable internTable = new InternTable(fieldNames.size() + enumerationValues.size());
+        for (String name : fieldNames)
+            internTable.addFieldName(name);
+        for (Item value : enumerationValues)
+            internTable.addString(value);
+        return internTable;
+    }
+
+    public TypeDescriptor getRootType() {
+        return rootType;
+    }
+
+    public TypeDescriptor getType(String name) {
+        return types.get(name);
+    }
+
+    public Map<String, TypeDescriptor> getTypes() {
+        return types;
+    }
+
+    public InternTable getInternTable() {
+        return internTable;
+    }
+}
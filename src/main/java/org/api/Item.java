@@ -5,6 +5,7 @@ import org.joda.time.DateTime;
 import org.joda.time.Period;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
@@ -47,7 +48,19 @@ public abstract class Item {
         return false;
     }
 
-    public Integer getIntegerValue() {
+    public boolean isInteger() {
+        return false;
+    }
+
+    public boolean isBigInteger() {
+        return false;
+    }
+
+    public long getIntegerValue() {
+        throw new UnexpectedTypeException(this.getStringValue() + " does not have a 64-bit integer.");
+    }
+
+    public BigInteger getBigIntegerValue() {
         throw new UnexpectedTypeException(this.getStringValue() + " does not have an integer.");
     }
 
@@ -67,6 +80,11 @@ public abstract class Item {
         return null;
     }
 
+    public int getStringLength() {
+        String value = this.getStringValue();
+        return value.codePointCount(0, value.length());
+    }
+
     public DateTime getDateTime() {
         throw new UnexpectedTypeException(this.getStringValue() + " does not have a dateTime.");
     }
@@ -0,0 +1,6 @@
+package org.api;
+
+public interface RecordValidationListener {
+
+    void recordValidated(long recordNumber, boolean isValid, String errorMessage);
+}
@@ -1,14 +1,19 @@
 package org.api;
 
 import jsound.exceptions.InvalidEnumValueException;
+import jsound.facets.EnumerationIndex;
+import jsound.facets.FacetCheck;
 import jsound.facets.FacetTypes;
 import jsound.facets.Facets;
+import jsound.json.InstanceReader;
 import jsound.typedescriptors.TypeOrReference;
 import jsound.types.ItemTypes;
 import jsound.tyson.TYSONValue;
 import jsound.tyson.TysonItem;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -18,16 +23,14 @@ public abstract class TypeDescriptor {
     private ItemTypes type;
     private String name;
     public TypeOrReference baseType;
-    private boolean enumerationIsValid = false;
-    protected boolean baseTypeIsChecked = false;
     protected boolean hasResolvedAllFacets = false;
+    private FacetCheck[] facetChecks;
     private static TypeDescriptor valueInstance;
 
     public TypeDescriptor(ItemTypes type, String name) {
         this.type = type;
         this.name = name;
         this.baseType = null;
-        this.baseTypeIsChecked = true;
         this.hasResolvedAllFacets = true;
     }
 
@@ -59,6 +62,12 @@ public abstract class TypeDescriptor {
                     return true;
                 }
 
+                @Override
+                public boolean validate(InstanceReader instance) throws IOException {
+                    instance.skipValue();
+                    return true;
+                }
+
                 @Override
                 public TysonItem annotate(Item item) {
                     return new TYSONValue(null, item);
@@ -175,6 +184,10 @@ public abstract class TypeDescriptor {
 
     public abstract boolean validate(Item item, boolean isEnumValue);
 
+    public boolean validate(InstanceReader instance) throws IOException {
+        return this.validate(instance.readItem(), false);
+    }
+
     public abstract TysonItem annotate(Item item);
 
     public void resolveAllFacets() {
@@ -194,12 +207,33 @@ public abstract class TypeDescriptor {
         }
     }
 
-    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor) {
+    public void checkAgainstTypeDescriptor(TypeDescriptor typeDescriptor, Set<TypeDescriptor> checkedTypes) {
+    }
+
+    protected void compile() {
+        this.facetChecks = createFacetChecks();
+    }
+
+    protected FacetCheck[] createFacetChecks() {
+        return new FacetCheck[0];
     }
 
-    public void checkBaseType() {
+    protected boolean validateFacets(Item item, boolean isEnumValue) {
+        for (FacetCheck check : this.facetChecks) {
+            if (!check.test(item, isEnumValue))
+                return false;
+        }
+        return true;
+    }
+
+    public void linkReferences(Collection<TypeDescriptor> referencedTypes) {
         if (this.baseType != null)
-            checkAgainstTypeDescriptor(this.baseType.getTypeDescriptor());
+            referencedTypes.add(this.baseType.resolve());
+    }
+
+    public void checkBaseType(Set<TypeDescriptor> checkedTypes) {
+        if (this.baseType != null)
+            checkAgainstTypeDescriptor(this.baseType.getTypeDescriptor(), checkedTypes);
     }
 
     protected boolean isEnumerationMoreRestrictive(Facets facets) {
@@ -214,8 +248,6 @@ public abstract class TypeDescriptor {
     }
 
     private void validateEnumerationValues() {
-        if (this.enumerationIsValid)
-            return;
         for (Item enumItem : this.getFacets().getEnumeration()) {
             if (!this.validate(enumItem, true)) {
                 throw new InvalidEnumValueException(
@@ -227,14 +259,19 @@ public abstract class TypeDescriptor {
                 );
             }
         }
-        this.enumerationIsValid = true;
     }
 
     protected boolean validateEnumeration(Item item, boolean isEnumerationItem) {
+        return validateEnumeration(item, isEnumerationItem, null);
+    }
+
+    protected boolean validateEnumeration(Item item, boolean isEnumerationItem, EnumerationIndex enumerationIndex) {
         if (isEnumerationItem)
             return true;
         try {
-            return validateItemAgainstEnumeration(item);
+            return enumerationIndex == null
+                ? validateItemAgainstEnumeration(item)
+                : enumerationIndex.contains(item);
         } catch (Exception e) {
             throw new InvalidEnumValueException(
                     "A value in enumeration is not in the type value space for type " + this.getName() + "."
@@ -244,7 +281,7 @@ public abstract class TypeDescriptor {
 
     protected boolean validateItemAgainstEnumeration(Item item) throws Exception {
         for (Item enumItem : this.getFacets().getEnumeration()) {
-            if (item.equals(enumItem))
+            if (item == enumItem || item.equals(enumItem))
                 return true;
         }
         return false;
@@ -0,0 +1,93 @@
+package org.api.executors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+class AsyncFileInputStream extends InputStream {
+
+    private static final int BLOCK_SIZE = 256 * 1024;
+
+    private final AsynchronousFileChannel channel;
+    private ByteBuffer current;
+    private ByteBuffer next;
+    private Future<Integer> pendingRead;
+    private long position = 0;
+    private boolean endOfInput = false;
+
+    AsyncFileInputStream(Path path) throws IOException {
+        this.channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+        int blockSize;
+        try {
+            blockSize = (int) Math.max(1, Math.min(BLOCK_SIZE, channel.size()));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.current = ByteBuffer.allocate(blockSize).limit(0);
+        this.next = ByteBuffer.allocate(blockSize);
+        readAhead();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!current.hasRemaining() && !advance())
+            return -1;
+        return current.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0)
+            return 0;
+        if (!current.hasRemaining() && !advance())
+            return -1;
+        int read = Math.min(length, current.remaining());
+        current.get(bytes, offset, read);
+        return read;
+    }
+
+    private boolean advance() throws IOException {
+        if (endOfInput)
+            return false;
+        int read = awaitPendingRead();
+        if (read <= 0) {
+            endOfInput = true;
+            return false;
+        }
+        position += read;
+        ByteBuffer filled = next;
+        next = current;
+        current = filled.flip();
+        readAhead();
+        return true;
+    }
+
+    private void readAhead() {
+        next.clear();
+        pendingRead = channel.read(next, position);
+    }
+
+    private int awaitPendingRead() throws IOException {
+        try {
+            return pendingRead.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        pendingRead.cancel(false);
+        channel.close();
+    }
+}
@@ -0,0 +1,86 @@
+package org.api.executors;
+
+import jsound.exceptions.CliException;
+import jsound.exceptions.JsoundException;
+import jsound.json.CompiledSchemaFormat;
+import org.api.CompiledSchema;
+import org.api.TypeDescriptor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+
+class CompiledSchemaCache {
+
+    private static final int MAGIC = 0x4a53434d;
+    private static final int FORMAT_VERSION = 2;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final byte[] key;
+
+    CompiledSchemaCache(Path path, byte[] schemaDefinition, boolean compact) {
+        this.path = path;
+        this.key = hash(schemaDefinition, compact);
+    }
+
+    Map<String, TypeDescriptor> read(String rootType) {
+        try (
+            DataInputStream input = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE)
+            )
+        ) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION)
+                return null;
+            byte[] storedKey = new byte[input.readUnsignedShort()];
+            input.readFully(storedKey);
+            if (!Arrays.equals(storedKey, key))
+                return null;
+            Map<String, TypeDescriptor> types = CompiledSchemaFormat.read(input);
+            return types.containsKey(rootType) ? types : null;
+        } catch (IOException | JsoundException e) {
+            return null;
+        }
+    }
+
+    void write(CompiledSchema compiledSchema) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (
+                DataOutputStream output = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(temporary), BUFFER_SIZE)
+                )
+            ) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeShort(key.length);
+                output.write(key);
+                CompiledSchemaFormat.write(output, compiledSchema.getTypes());
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static byte[] hash(byte[] schemaDefinition, boolean compact) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new CliException("Something wrong happened on our end.");
+        }
+        digest.update((byte) (compact ? 1 : 0));
+        return digest.digest(schemaDefinition);
+    }
+}
@@ -0,0 +1,68 @@
+package org.api.executors;
+
+import jsound.exceptions.JsoundException;
+import jsound.item.InternTable;
+import jsound.item.ItemArena;
+import jsound.json.JsonLinesReader;
+import jsound.json.JsonStreamReader;
+import org.api.CompiledSchema;
+import org.api.TypeDescriptor;
+
+import java.io.IOException;
+
+class InstanceValidator {
+
+    private static final String MALFORMED_INSTANCE_MESSAGE = "The instance is not a single well-formed JSON value.";
+    private static final String MALFORMED_RECORD_MESSAGE = "The record is not a single well-formed JSON value.";
+
+    private final TypeDescriptor rootType;
+    private final InternTable internTable;
+    private final JsonStreamReader recordReader = new JsonStreamReader(new byte[0], 0, 0);
+    private String errorMessage;
+
+    InstanceValidator(CompiledSchema compiledSchema) {
+        this.rootType = compiledSchema.getRootType();
+        this.internTable = compiledSchema.getInternTable();
+    }
+
+    boolean validateCurrentLine(JsonLinesReader reader) {
+        return validate(reader.getBuffer(), reader.getLineStart(), reader.getLineEnd(), MALFORMED_RECORD_MESSAGE);
+    }
+
+    boolean validate(byte[] instance, int start, int end) {
+        return validate(instance, start, end, MALFORMED_INSTANCE_MESSAGE);
+    }
+
+    boolean validate(JsonStreamReader instance) throws IOException {
+        return validate(instance, MALFORMED_INSTANCE_MESSAGE);
+    }
+
+    private boolean validate(byte[] instance, int start, int end, String malformedMessage) {
+        try {
+            return validate(recordReader.wrap(instance, start, end), malformedMessage);
+        } catch (IOException e) {
+            errorMessage = malformedMessage;
+        }
+        return false;
+    }
+
+    private boolean validate(JsonStreamReader instance, String malformedMessage) throws IOException {
+        errorMessage = null;
+        ItemArena.open(internTable);
+        try {
+            boolean isValid = rootType.validate(instance);
+            if (isValid && !instance.isConsumed())
+                throw new JsoundException(malformedMessage);
+            return isValid;
+        } catch (JsoundException e) {
+            errorMessage = e.getMessage();
+        } finally {
+            ItemArena.close();
+        }
+        return false;
+    }
+
+    String getErrorMessage() {
+        return errorMessage;
+    }
+}
@@ -1,18 +1,48 @@
 package org.api.executors;
 
 import jsound.exceptions.InvalidInstanceAgainstSchemaException;
-import org.config.JSoundRuntimeConfiguration;
+import jsound.item.ItemArena;
+import jsound.json.InstanceTape;
+import org.api.CompiledSchema;
+import org.api.TypeDescriptor;
 import jsound.tyson.TYSONObject;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 public class JSoundAnnotateExecutor extends JSoundExecutor {
 
     public static void annotate(String schemaPath, String filePath, String rootType, String outputPath, boolean compact)
             throws IOException {
+        CompiledSchema compiledSchema;
         try {
-            if (!JSoundValidateExecutor.validate(schemaPath, filePath, rootType, compact))
+            compiledSchema = compileSchema(schemaPath, rootType, compact);
+        } catch (Exception e) {
+            throw new InvalidInstanceAgainstSchemaException(
+                    "Annotation can't be done. The candidate instance is invalid against the provided schema."
+            );
+        }
+        annotate(compiledSchema, filePath, outputPath);
+    }
+
+    public static void annotate(CompiledSchema compiledSchema, String filePath, String outputPath)
+            throws IOException {
+        ItemArena.open(compiledSchema.getInternTable());
+        try {
+            annotate(compiledSchema.getRootType(), filePath, outputPath);
+        } finally {
+            ItemArena.close();
+        }
+    }
+
+    private static void annotate(TypeDescriptor schemaItem, String filePath, String outputPath) throws IOException {
+        InstanceTape instance;
+        try {
+            instance = readInstance(filePath);
+            if (!schemaItem.validate(instance.reader()))
                 throw new InvalidInstanceAgainstSchemaException(
                         "Annotation can't be done. The candidate instance is invalid against the provided schema."
                 );
@@ -21,9 +51,9 @@ public class JSoundAnnotateExecutor extends JSoundExecutor {
                     "Annotation can't be done. The candidate instance is invalid against the provided schema."
             );
         }
-        try (FileWriter file = new FileWriter(outputPath)) {
-            TYSONObject rootObject = (TYSONObject) schemaItem.annotate(fileItem);
-            rootObject.setTypeName(JSoundRuntimeConfiguration.getInstance().getRootType());
+        try (Writer file = Files.newBufferedWriter(Paths.get(outputPath), StandardCharsets.UTF_8)) {
+            TYSONObject rootObject = (TYSONObject) schemaItem.annotate(instance.getItem(InstanceTape.ROOT));
+            rootObject.setTypeName(schemaItem.getName());
             file.write(rootObject.toTYSONString());
         } catch (IOException e) {
             throw new IOException("The specified output path is not valid: " + outputPath);
@@ -1,62 +1,212 @@
 package org.api.executors;
 
-import com.jsoniter.JsonIterator;
 import jsound.exceptions.CliException;
-import org.api.Item;
+import org.api.CompiledSchema;
 import jsound.json.CompactSchemaFileJsonParser;
-import jsound.json.InstanceFileJsonParser;
+import jsound.json.InstanceTape;
+import jsound.json.SchemaContext;
 import jsound.json.SchemaFileJsonParser;
 import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
 import jsound.types.AtomicTypes;
 import org.api.TypeDescriptor;
 import jsound.typedescriptors.TypeOrReference;
 
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Paths;
-import java.util.HashMap;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.Map;
-
-import static jsound.json.CompactSchemaFileJsonParser.compactSchema;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 public abstract class JSoundExecutor {
 
-    static TypeDescriptor schemaItem;
-    static Item fileItem;
-    public static Map<String, TypeDescriptor> schema = new HashMap<>();
-    public static JsonIterator jsonSchemaIterator;
+    private static final String READ_ERROR_MESSAGE = "There was an error when reading the instance or the schema file.";
+    private static final long MAX_IN_MEMORY_FILE_SIZE = Integer.MAX_VALUE - 8;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String DEFLATE_EXTENSION = ".deflate";
+    static final String STANDARD_INPUT = "-";
 
-    public static void initializeApplication(String schemaPath, String filePath, String rootType, boolean compact)
+    public static CompiledSchema compileSchema(String schemaPath, String rootType, boolean compact)
             throws IOException {
-        String schemaString, fileString;
+        return compileSchema(readFile(schemaPath), rootType, compact);
+    }
 
-        try {
-            schemaString = new String(Files.readAllBytes(Paths.get(schemaPath)));
-            fileString = new String(Files.readAllBytes(Paths.get(filePath)));
-        } catch (IOException e) {
-            throw new IOException("There was an error when reading the instance or the schema file.");
+    public static CompiledSchema compileSchema(
+            String schemaPath,
+            String rootType,
+            boolean compact,
+            String compiledSchemaPath
+    )
+            throws IOException {
+        byte[] schemaDefinition = readFile(schemaPath);
+        CompiledSchemaCache cache = new CompiledSchemaCache(Paths.get(compiledSchemaPath), schemaDefinition, compact);
+        Map<String, TypeDescriptor> cachedTypes = cache.read(rootType);
+        if (cachedTypes == null) {
+            CompiledSchema compiledSchema = compileSchema(schemaDefinition, rootType, compact);
+            try {
+                cache.write(compiledSchema);
+            } catch (IOException e) {
+                throw new IOException("The compiled schema could not be written to " + compiledSchemaPath);
+            }
+            return compiledSchema;
         }
+        return new CompiledSchema(cachedTypes, rootType, linkReferences(cachedTypes));
+    }
 
-        jsonSchemaIterator = JsonIterator.parse(schemaString);
-        JsonIterator fileObject = JsonIterator.parse(fileString);
+    public static CompiledSchema compileSchema(byte[] schemaDefinition, String rootType, boolean compact)
+            throws IOException {
+        try (SchemaContext context = SchemaContext.open(schemaDefinition)) {
+            Map<String, TypeDescriptor> types = context.getTypes();
+            for (AtomicTypes type : AtomicTypes.values()) {
+                try {
+                    TypeDescriptor atomicType = AtomicTypeDescriptor.buildAtomicType(type, type.getTypeName(), false);
+                    types.put(type.getTypeName(), atomicType);
+                    SchemaContext.compactSchemaTypes().put(type.getTypeName(), new TypeOrReference(atomicType));
+                } catch (IOException e) {
+                    throw new CliException("Something wrong happened on our end.");
+                }
+            }
 
-        for (AtomicTypes type : AtomicTypes.values()) {
-            try {
-                schema.put(type.getTypeName(), AtomicTypeDescriptor.buildAtomicType(type, type.getTypeName(), false));
-                compactSchema.put(type.getTypeName(), new TypeOrReference(schema.get(type.getTypeName())));
-            } catch (IOException e) {
-                throw new CliException("Something wrong happened on our end.");
+            if (compact)
+                CompactSchemaFileJsonParser.createSchema();
+            else
+                SchemaFileJsonParser.createSchema();
+
+            if (!types.containsKey(rootType))
+                throw new CliException("The specified root type was not defined in the schema.");
+            Set<TypeDescriptor> linkedTypes = linkReferences(types);
+            resolveAllFacets(types);
+            CompiledSchema compiledSchema = new CompiledSchema(types, rootType, linkedTypes);
+            checkSubtypeCorrectness(types);
+            return compiledSchema;
+        }
+    }
+
+    static InstanceTape readInstance(String filePath) throws IOException {
+        byte[] instance = readFile(filePath);
+        return InstanceTape.parse(instance, 0, instance.length);
+    }
+
+    private static Set<TypeDescriptor> linkReferences(Map<String, TypeDescriptor> types) {
+        Set<TypeDescriptor> linkedTypes = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<TypeDescriptor> pendingTypes = new ArrayDeque<>(types.values());
+        while (!pendingTypes.isEmpty()) {
+            TypeDescriptor typeDescriptor = pendingTypes.pop();
+            if (linkedTypes.add(typeDescriptor))
+                typeDescriptor.linkReferences(pendingTypes);
+        }
+        return linkedTypes;
+    }
+
+    private static void resolveAllFacets(Map<String, TypeDescriptor> types) {
+        for (TypeDescriptor typeDescriptor : types.values())
+            typeDescriptor.resolveAllFacets();
+    }
+
+    private static void checkSubtypeCorrectness(Map<String, TypeDescriptor> types) {
+        Set<TypeDescriptor> checkedTypes = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (TypeDescriptor typeDescriptor : types.values())
+            typeDescriptor.checkBaseType(checkedTypes);
+    }
+
+    static byte[] readFile(String path) throws IOException {
+        if (STANDARD_INPUT.equals(path))
+            return readStandardInput();
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(2);
+            channel.read(header, 0);
+            if (header.position() == 2 && isCompressed(header.get(0) & 0xff, header.get(1) & 0xff, path)) {
+                try (InputStream input = openFile(path)) {
+                    return readBounded(input, "The file " + path);
+                }
             }
+            if (channel.size() > MAX_IN_MEMORY_FILE_SIZE)
+                throw new CliException(
+                        "The file " + path + " is too large to be validated as a single JSON value."
+                );
+            byte[] bytes = new byte[(int) channel.size()];
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            int read = 0;
+            while (buffer.hasRemaining() && read >= 0)
+                read = channel.read(buffer);
+            return buffer.hasRemaining() ? Arrays.copyOf(bytes, buffer.position()) : bytes;
+        } catch (IOException e) {
+            throw new IOException(READ_ERROR_MESSAGE);
+        }
+    }
+
+    private static byte[] readStandardInput() throws IOException {
+        try (InputStream input = openFile(STANDARD_INPUT)) {
+            return readBounded(input, "The standard input");
+        }
+    }
+
+    private static byte[] readBounded(InputStream input, String source) throws IOException {
+        byte[] bytes = input.readNBytes((int) MAX_IN_MEMORY_FILE_SIZE + 1);
+        if (bytes.length > MAX_IN_MEMORY_FILE_SIZE)
+            throw new CliException(source + " is too large to be validated as a single JSON value.");
+        return bytes;
+    }
+
+    static InputStream openFile(String path) throws IOException {
+        return decompress(openRawFile(path), path);
+    }
+
+    static InputStream openRawFile(String path) throws IOException {
+        if (STANDARD_INPUT.equals(path))
+            return new FilterInputStream(System.in) {
+                @Override
+                public void close() {
+                }
+            };
+        try {
+            return new AsyncFileInputStream(Paths.get(path));
+        } catch (IOException e) {
+            throw new IOException(READ_ERROR_MESSAGE);
         }
+    }
 
-        if (compact)
-            CompactSchemaFileJsonParser.createSchema();
-        else
-            SchemaFileJsonParser.createSchema();
+    static InputStream decompress(InputStream file, String path) throws IOException {
+        InputStream input = new BufferedInputStream(file, BUFFER_SIZE);
+        input.mark(2);
+        int first = input.read();
+        int second = input.read();
+        input.reset();
+        if (isGzip(first, second))
+            return new GZIPInputStream(input, BUFFER_SIZE);
+        if (isZlib(first, second))
+            return new InflaterInputStream(input, new Inflater(), BUFFER_SIZE);
+        if (path.endsWith(DEFLATE_EXTENSION))
+            return new InflaterInputStream(input, new Inflater(true), BUFFER_SIZE);
+        return input;
+    }
+
+    private static boolean isCompressed(int first, int second, String path) {
+        return isGzip(first, second) || isZlib(first, second) || path.endsWith(DEFLATE_EXTENSION);
+    }
+
+    private static boolean isGzip(int first, int second) {
+        return first == 0x1f && second == 0x8b;
+    }
 
-        schemaItem = schema.getOrDefault(rootType, null);
-        if (schemaItem == null)
-            throw new CliException("The specified root type was not defined in the schema.");
-        fileItem = InstanceFileJsonParser.getItemFromObject(fileObject);
+    private static boolean isZlib(int first, int second) {
+        return first >= 0
+            && second >= 0
+            && (first & 0x0f) == 8
+            && (first >> 4) <= 7
+            && (second & 0x20) == 0
+            && (first * 256 + second) % 31 == 0;
     }
 }
@@ -1,23 +1,181 @@
 package org.api.executors;
 
 
-import org.api.TypeDescriptor;
+import jsound.item.ItemArena;
+import jsound.json.JsonLinesReader;
+import jsound.json.JsonStreamReader;
+import org.api.BatchValidationResult;
+import org.api.CompiledSchema;
+import org.api.RecordValidationListener;
+import org.api.ValidationResult;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 public abstract class JSoundValidateExecutor extends JSoundExecutor {
 
     public static boolean validate(String schemaPath, String filePath, String rootType, boolean compact)
             throws IOException {
-        initializeApplication(schemaPath, filePath, rootType, compact);
-        checkSubtypeCorrectness();
-        return schemaItem.validate(fileItem, false);
+        return validateFile(compileSchema(schemaPath, rootType, compact), filePath);
     }
 
-    private static void checkSubtypeCorrectness() {
-        for (TypeDescriptor typeDescriptor : schema.values()) {
-            typeDescriptor.resolveAllFacets();
-            typeDescriptor.checkBaseType();
+    public static boolean validateFile(CompiledSchema compiledSchema, String filePath) throws IOException {
+        ItemArena.open(compiledSchema.getInternTable());
+        try (JsonStreamReader instance = new JsonStreamReader(openFile(filePath))) {
+            boolean isValid = compiledSchema.getRootType().validate(instance);
+            if (isValid)
+                instance.readEnd();
+            return isValid;
+        } finally {
+            ItemArena.close();
         }
     }
+
+    public static ValidationResult validate(CompiledSchema compiledSchema, byte[] instance) {
+        return validate(compiledSchema, instance, 0, instance.length);
+    }
+
+    public static ValidationResult validate(CompiledSchema compiledSchema, byte[] instance, int offset, int length) {
+        InstanceValidator validator = new InstanceValidator(compiledSchema);
+        boolean isValid = validator.validate(instance, offset, offset + length);
+        return new ValidationResult(isValid, validator.getErrorMessage());
+    }
+
+    public static ValidationResult validate(CompiledSchema compiledSchema, ByteBuffer instance) throws IOException {
+        if (instance.hasArray())
+            return validate(
+                compiledSchema,
+                instance.array(),
+                instance.arrayOffset() + instance.position(),
+                instance.remaining()
+            );
+        return validate(compiledSchema, new ByteBufferInputStream(instance.duplicate()));
+    }
+
+    public static ValidationResult validate(CompiledSchema compiledSchema, InputStream instance) throws IOException {
+        InstanceValidator validator = new InstanceValidator(compiledSchema);
+        boolean isValid = validator.validate(new JsonStreamReader(instance));
+        return new ValidationResult(isValid, validator.getErrorMessage());
+    }
+
+    public static BatchValidationResult validateFiles(
+            CompiledSchema compiledSchema,
+            List<String> filePaths,
+            RecordValidationListener listener
+    ) {
+        long start = System.nanoTime();
+        long validCount = 0;
+        InstanceValidator validator = new InstanceValidator(compiledSchema);
+        InputStream nextFile = null;
+        try {
+            for (int index = 0; index < filePaths.size(); index++) {
+                String filePath = filePaths.get(index);
+                InputStream currentFile = nextFile;
+                nextFile = null;
+                boolean isValid;
+                String errorMessage;
+                try (
+                    InputStream file = currentFile != null ? currentFile : openRawFile(filePath);
+                    InputStream instance = decompress(file, filePath)
+                ) {
+                    if (index + 1 < filePaths.size())
+                        nextFile = openNextFile(filePaths.get(index + 1));
+                    isValid = validator.validate(new JsonStreamReader(instance));
+                    errorMessage = validator.getErrorMessage();
+                } catch (IOException e) {
+                    isValid = false;
+                    errorMessage = e.getMessage();
+                }
+                if (isValid)
+                    validCount++;
+                listener.recordValidated(index + 1, isValid, errorMessage);
+            }
+        } finally {
+            closeNextFile(nextFile);
+        }
+        return new BatchValidationResult(filePaths.size(), validCount, System.nanoTime() - start);
+    }
+
+    private static InputStream openNextFile(String filePath) {
+        try {
+            return openRawFile(filePath);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void closeNextFile(InputStream file) {
+        if (file == null)
+            return;
+        try {
+            file.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    public static boolean validateTree(String schemaPath, String filePath, String rootType, boolean compact)
+            throws IOException {
+        return validateTree(compileSchema(schemaPath, rootType, compact), filePath);
+    }
+
+    public static boolean validateTree(CompiledSchema compiledSchema, String filePath) throws IOException {
+        ItemArena.open(compiledSchema.getInternTable());
+        try {
+            return compiledSchema.getRootType().validate(readInstance(filePath).reader());
+        } finally {
+            ItemArena.close();
+        }
+    }
+
+    public static BatchValidationResult validateLines(
+            String schemaPath,
+            String filePath,
+            String rootType,
+            boolean compact,
+            RecordValidationListener listener
+    )
+            throws IOException {
+        return validateLines(schemaPath, filePath, rootType, compact, 1, listener);
+    }
+
+    public static BatchValidationResult validateLines(
+            String schemaPath,
+            String filePath,
+            String rootType,
+            boolean compact,
+            int workers,
+            RecordValidationListener listener
+    )
+            throws IOException {
+        return validateLines(compileSchema(schemaPath, rootType, compact), filePath, workers, listener);
+    }
+
+    public static BatchValidationResult validateLines(
+            CompiledSchema compiledSchema,
+            String filePath,
+            int workers,
+            RecordValidationListener listener
+    )
+            throws IOException {
+        if (workers > 1) {
+            try (InputStream input = openFile(filePath)) {
+                return new ParallelJsonLinesValidator(compiledSchema, workers).validate(input, listener);
+            }
+        }
+        long start = System.nanoTime();
+        long recordCount = 0, validCount = 0;
+        InstanceValidator recordValidator = new InstanceValidator(compiledSchema);
+        try (JsonLinesReader reader = new JsonLinesReader(openFile(filePath))) {
+            while (reader.readLine()) {
+                boolean isValid = recordValidator.validateCurrentLine(reader);
+                recordCount++;
+                if (isValid)
+                    validCount++;
+                listener.recordValidated(reader.getLineNumber(), isValid, recordValidator.getErrorMessage());
+            }
+        }
+        return new BatchValidationResult(recordCount, validCount, System.nanoTime() - start);
+    }
 }
@@ -0,0 +1,132 @@
+package org.api.executors;
+
+import jsound.exceptions.JsoundException;
+import jsound.json.JsonLinesReader;
+import org.api.BatchValidationResult;
+import org.api.CompiledSchema;
+import org.api.RecordValidationListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+class ParallelJsonLinesValidator {
+
+    private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+    private static final int CHUNKS_IN_FLIGHT_PER_WORKER = 2;
+
+    private final CompiledSchema compiledSchema;
+    private final int workers;
+    private byte[] remainder = new byte[0];
+
+    ParallelJsonLinesValidator(CompiledSchema compiledSchema, int workers) {
+        this.compiledSchema = compiledSchema;
+        this.workers = workers;
+    }
+
+    BatchValidationResult validate(InputStream input, RecordValidationListener listener) throws IOException {
+        long start = System.nanoTime();
+        long recordCount = 0, validCount = 0, lineOffset = 0;
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        try {
+            Deque<Future<ChunkResult>> pending = new ArrayDeque<>();
+            boolean endOfInput = false;
+            while (!endOfInput || !pending.isEmpty()) {
+                while (!endOfInput && pending.size() < workers * CHUNKS_IN_FLIGHT_PER_WORKER) {
+                    byte[] bytes = readChunk(input);
+                    if (bytes == null)
+                        endOfInput = true;
+                    else
+                        pending.add(pool.submit(() -> validateChunk(bytes)));
+                }
+                if (pending.isEmpty())
+                    break;
+                ChunkResult chunk = await(pending.poll());
+                for (int i = 0; i < chunk.recordCount; i++) {
+                    if (chunk.valid[i])
+                        validCount++;
+                    listener.recordValidated(lineOffset + chunk.lineNumbers[i], chunk.valid[i], chunk.errorMessages[i]);
+                }
+                recordCount += chunk.recordCount;
+                lineOffset += chunk.lineCount;
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new BatchValidationResult(recordCount, validCount, System.nanoTime() - start);
+    }
+
+    private byte[] readChunk(InputStream input) throws IOException {
+        byte[] bytes = Arrays.copyOf(remainder, remainder.length + CHUNK_SIZE);
+        int length = remainder.length;
+        while (true) {
+            int read;
+            while (length < bytes.length && (read = input.read(bytes, length, bytes.length - length)) >= 0)
+                length += read;
+            if (length < bytes.length) {
+                remainder = new byte[0];
+                return length == 0 ? null : Arrays.copyOf(bytes, length);
+            }
+            int lineEnd = length;
+            while (lineEnd > 0 && bytes[lineEnd - 1] != '\n')
+                lineEnd--;
+            if (lineEnd > 0) {
+                remainder = Arrays.copyOfRange(bytes, lineEnd, length);
+                return lineEnd == length ? bytes : Arrays.copyOf(bytes, lineEnd);
+            }
+            bytes = Arrays.copyOf(bytes, 2 * bytes.length);
+        }
+    }
+
+    private ChunkResult validateChunk(byte[] bytes) throws IOException {
+        InstanceValidator recordValidator = new InstanceValidator(compiledSchema);
+        ChunkResult result = new ChunkResult();
+        JsonLinesReader reader = new JsonLinesReader(bytes, 0, bytes.length);
+        while (reader.readLine()) {
+            boolean isValid = recordValidator.validateCurrentLine(reader);
+            result.add(reader.getLineNumber(), isValid, recordValidator.getErrorMessage());
+        }
+        result.lineCount = reader.getLineNumber();
+        return result;
+    }
+
+    private static ChunkResult await(Future<ChunkResult> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsoundException("The validation was interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new JsoundException(e.getCause().getMessage());
+        }
+    }
+
+    private static class ChunkResult {
+        private int recordCount = 0;
+        private long lineCount = 0;
+        private long[] lineNumbers = new long[256];
+        private boolean[] valid = new boolean[256];
+        private String[] errorMessages = new String[256];
+
+        private void add(long lineNumber, boolean isValid, String errorMessage) {
+            if (recordCount == lineNumbers.length) {
+                lineNumbers = Arrays.copyOf(lineNumbers, recordCount * 2);
+                valid = Arrays.copyOf(valid, recordCount * 2);
+                errorMessages = Arrays.copyOf(errorMessages, recordCount * 2);
+            }
+            lineNumbers[recordCount] = lineNumber;
+            valid[recordCount] = isValid;
+            errorMessages[recordCount] = errorMessage;
+            recordCount++;
+        }
+    }
+}
@@ -2,22 +2,34 @@ package org.cli;
 
 import jsound.exceptions.CliException;
 import jsound.exceptions.JsoundException;
+import org.api.BatchValidationResult;
+import org.api.CompiledSchema;
 import org.api.executors.JSoundAnnotateExecutor;
+import org.api.executors.JSoundExecutor;
 import org.api.executors.JSoundValidateExecutor;
 import org.config.JSoundRuntimeConfiguration;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
 public class Main {
 
     public static void main(String[] args) {
         JSoundRuntimeConfiguration configuration = JSoundRuntimeConfiguration.createJSoundRuntimeConfiguration(args);
         try {
             configuration.hasNecessaryArguments();
-            if (configuration.isValidate()) {
-                boolean isValid = JSoundValidateExecutor.validate(
-                    JSoundRuntimeConfiguration.getInstance().getSchema(),
-                    JSoundRuntimeConfiguration.getInstance().getFile(),
-                    JSoundRuntimeConfiguration.getInstance().getRootType(),
-                    JSoundRuntimeConfiguration.getInstance().isCompact()
+            if (configuration.isCompileOnly()) {
+                compileSchema(configuration);
+                System.out.println("Schema compiled successfully! ✅");
+            } else if (configuration.isValidate() && configuration.isNdjson()) {
+                validateRecords(configuration);
+            } else if (configuration.isValidate()) {
+                boolean isValid = JSoundValidateExecutor.validateFile(
+                    compileSchema(configuration),
+                    JSoundRuntimeConfiguration.getInstance().getFile()
                 );
                 System.out.println(
                     isValid
@@ -27,13 +39,13 @@ public class Main {
             } else if (configuration.isAnnotate()) {
                 if (configuration.getOutputPath() == null)
                     throw new CliException("Missing output path argument");
+                if (configuration.isNdjson())
+                    throw new CliException("Annotation is only supported for the json format.");
                 try {
                     JSoundAnnotateExecutor.annotate(
-                        JSoundRuntimeConfiguration.getInstance().getSchema(),
+                        compileSchema(configuration),
                         JSoundRuntimeConfiguration.getInstance().getFile(),
-                        JSoundRuntimeConfiguration.getInstance().getRootType(),
-                        JSoundRuntimeConfiguration.getInstance().getOutputPath(),
-                        JSoundRuntimeConfiguration.getInstance().isCompact()
+                        JSoundRuntimeConfiguration.getInstance().getOutputPath()
                     );
                     System.out.println("Validation completed successfully! ✅");
                     System.out.println("Annotation completed successfully! ✅");
@@ -49,6 +61,49 @@ public class Main {
         }
     }
 
+    private static void validateRecords(JSoundRuntimeConfiguration configuration) throws IOException {
+        PrintWriter out = new PrintWriter(
+                new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+        );
+        BatchValidationResult result = JSoundValidateExecutor.validateLines(
+            compileSchema(configuration),
+            configuration.getFile(),
+            configuration.getWorkers(),
+            (recordNumber, isValid, errorMessage) -> out.println(
+                "Record "
+                    + recordNumber
+                    + (isValid ? ": valid ✅" : ": invalid ❌")
+                    + (errorMessage == null ? "" : " " + errorMessage)
+            )
+        );
+        out.println(
+            String.format(
+                "Validated %d records (%d valid, %d invalid) in %.3f s: %.0f records per second.",
+                result.getRecordCount(),
+                result.getValidCount(),
+                result.getInvalidCount(),
+                result.getElapsedSeconds(),
+                result.getRecordsPerSecond()
+            )
+        );
+        out.flush();
+    }
+
+    private static CompiledSchema compileSchema(JSoundRuntimeConfiguration configuration) throws IOException {
+        if (configuration.getCompiledSchemaPath() == null)
+            return JSoundExecutor.compileSchema(
+                configuration.getSchema(),
+                configuration.getRootType(),
+                configuration.isCompact()
+            );
+        return JSoundExecutor.compileSchema(
+            configuration.getSchema(),
+            configuration.getRootType(),
+            configuration.isCompact(),
+            configuration.getCompiledSchemaPath()
+        );
+    }
+
     private static void handleException(Throwable ex) {
         if (ex != null) {
             if (ex instanceof JsoundException) {
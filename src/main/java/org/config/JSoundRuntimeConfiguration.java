@@ -7,8 +7,12 @@ import java.util.HashMap;
 public class JSoundRuntimeConfiguration {
 
     private static final String ARGUMENT_PREFIX = "--";
+    private static final String JSON_FORMAT = "json";
+    private static final String NDJSON_FORMAT = "ndjson";
+    private static final String STANDARD_INPUT = "-";
     private static final String ARGUMENT_FORMAT_ERROR_MESSAGE =
         "Invalid argument format. Required format: --property value";
+    private static final String WORKERS_ERROR_MESSAGE = "The number of workers should be a positive integer.";
     private HashMap<String, String> _arguments;
     private static JSoundRuntimeConfiguration instance;
 
@@ -45,6 +49,14 @@ public class JSoundRuntimeConfiguration {
         return this._arguments.getOrDefault("schema", null);
     }
 
+    public String getCompiledSchemaPath() {
+        return this._arguments.getOrDefault("compile-schema", null);
+    }
+
+    public boolean isCompileOnly() {
+        return getCompiledSchemaPath() != null && !isValidate() && !isAnnotate();
+    }
+
     public String getRootType() {
         return this._arguments.getOrDefault("root", null);
     }
@@ -53,6 +65,22 @@ public class JSoundRuntimeConfiguration {
         return Boolean.parseBoolean(this._arguments.getOrDefault("compact", null));
     }
 
+    public String getFormat() {
+        return this._arguments.getOrDefault("format", JSON_FORMAT).toLowerCase();
+    }
+
+    public boolean isNdjson() {
+        return NDJSON_FORMAT.equals(getFormat());
+    }
+
+    public int getWorkers() {
+        try {
+            return Integer.parseInt(this._arguments.getOrDefault("workers", "1"));
+        } catch (NumberFormatException e) {
+            throw new CliException(WORKERS_ERROR_MESSAGE);
+        }
+    }
+
     public boolean isValidate() {
         return Boolean.parseBoolean(this._arguments.getOrDefault("validate", null));
     }
@@ -64,9 +92,15 @@ public class JSoundRuntimeConfiguration {
     public void hasNecessaryArguments() {
         if (getSchema() == null)
             throw new CliException("Missing schema argument");
-        if (getFile() == null)
+        if (getFile() == null && !isCompileOnly())
             throw new CliException("Missing instance file argument");
         if (getRootType() == null)
             throw new CliException("Missing type to validate the instance file against.");
+        if (STANDARD_INPUT.equals(getSchema()) && STANDARD_INPUT.equals(getFile()))
+            throw new CliException("The schema and the instance file cannot both be read from the standard input.");
+        if (!JSON_FORMAT.equals(getFormat()) && !NDJSON_FORMAT.equals(getFormat()))
+            throw new CliException("Format should be either \"json\" or \"ndjson\".");
+        if (getWorkers() < 1)
+            throw new CliException(WORKERS_ERROR_MESSAGE);
     }
 }
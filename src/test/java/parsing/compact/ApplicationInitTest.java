@@ -1,5 +1,6 @@
 package parsing.compact;
 
+import org.api.TypeDescriptor;
 import org.api.executors.JSoundExecutor;
 import jsound.types.AtomicTypes;
 import jsound.typedescriptors.object.FieldDescriptor;
@@ -12,21 +13,20 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
-import static org.api.executors.JSoundExecutor.schema;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class ApplicationInitTest {
-    static String filePath = "src/main/resources/peopleFile.json";
     static String schemaPath = "src/main/resources/peopleSchema.json";
     static String rootType = "directory";
     public static boolean compact = true;
 
+    private static Map<String, TypeDescriptor> schema;
     private static Map<String, FieldDescriptor> person;
 
     @BeforeClass
     public static void initializeApplication() throws IOException {
-        JSoundExecutor.initializeApplication(schemaPath, filePath, rootType, compact);
+        schema = JSoundExecutor.compileSchema(schemaPath, rootType, compact).getTypes();
         person = schema.get("person").getFacets().getObjectContent();
     }
 
@@ -0,0 +1,30 @@
+package validation;
+
+import org.junit.Rule;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public abstract class InstanceFileTest {
+    protected static String peopleSchemaPath = "src/main/resources/peopleSchema.json";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    protected String writeSchema(String content) throws IOException {
+        return writeFile(content);
+    }
+
+    protected String writeInstance(String content) throws IOException {
+        return writeFile(content);
+    }
+
+    private String writeFile(String content) throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file.getPath();
+    }
+}
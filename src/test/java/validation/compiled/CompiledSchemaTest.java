@@ -0,0 +1,172 @@
+package validation.compiled;
+
+import jsound.exceptions.TypeNotResolvedException;
+import jsound.item.ItemArena;
+import jsound.json.InstanceFileJsonParser;
+import jsound.json.InstanceTape;
+import org.api.CompiledSchema;
+import org.api.Item;
+import org.api.executors.JSoundAnnotateExecutor;
+import org.api.executors.JSoundExecutor;
+import org.api.executors.JSoundValidateExecutor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CompiledSchemaTest {
+    static String peopleSchemaPath = "src/main/resources/peopleSchema.json";
+    static String randomSchemaPath = "src/main/resources/randomSchema.json";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testIndependentCompiledSchemas() throws Exception {
+        CompiledSchema integers = JSoundExecutor.compileSchema(
+            "{ \"record\": { \"v\": \"value\" }, \"value\": \"integer\" }".getBytes(StandardCharsets.UTF_8),
+            "record",
+            true
+        );
+        CompiledSchema strings = JSoundExecutor.compileSchema(
+            "{ \"record\": { \"v\": \"value\" }, \"value\": \"string\" }".getBytes(StandardCharsets.UTF_8),
+            "record",
+            true
+        );
+        byte[] integer = "{ \"v\": 1 }".getBytes(StandardCharsets.UTF_8);
+        byte[] string = "{ \"v\": \"a\" }".getBytes(StandardCharsets.UTF_8);
+        List<Thread> threads = new ArrayList<>();
+        List<Boolean> results = Collections.synchronizedList(new ArrayList<>());
+        for (int index = 0; index < 4; index++) {
+            threads.add(new Thread(() -> {
+                for (int count = 0; count < 100; count++) {
+                    results.add(JSoundValidateExecutor.validate(integers, integer).isValid());
+                    results.add(!JSoundValidateExecutor.validate(integers, string).isValid());
+                    results.add(JSoundValidateExecutor.validate(strings, string).isValid());
+                    results.add(!JSoundValidateExecutor.validate(strings, integer).isValid());
+                }
+            }));
+        }
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        assertEquals(1600, results.size());
+        assertFalse(results.contains(false));
+    }
+
+    @Test
+    public void testCompiledSchemaCache() throws IOException {
+        String schemaPath = folder.getRoot().getPath() + "/schema.json";
+        String compiledSchemaPath = folder.getRoot().getPath() + "/schema.jsc";
+        Files.copy(Paths.get(peopleSchemaPath), Paths.get(schemaPath));
+        byte[] valid = Files.readAllBytes(Paths.get("src/main/resources/peopleFile.json"));
+        byte[] missingFirst = "{ \"people\": [ { \"last\": \"Kirk\" } ] }".getBytes(StandardCharsets.UTF_8);
+        for (int round = 0; round < 2; round++) {
+            CompiledSchema directory = JSoundExecutor.compileSchema(schemaPath, "directory", true, compiledSchemaPath);
+            assertTrue(Files.exists(Paths.get(compiledSchemaPath)));
+            assertTrue(JSoundValidateExecutor.validate(directory, valid).isValid());
+            assertFalse(JSoundValidateExecutor.validate(directory, missingFirst).isValid());
+        }
+        String relaxed = new String(Files.readAllBytes(Paths.get(schemaPath)), StandardCharsets.UTF_8)
+            .replace("\"first!\"", "\"first\"");
+        Files.write(Paths.get(schemaPath), relaxed.getBytes(StandardCharsets.UTF_8));
+        CompiledSchema directory = JSoundExecutor.compileSchema(schemaPath, "directory", true, compiledSchemaPath);
+        assertTrue(JSoundValidateExecutor.validate(directory, missingFirst).isValid());
+        Files.write(Paths.get(schemaPath), relaxed.replace("\"last\"", "\"list\"").getBytes(StandardCharsets.UTF_8));
+        directory = JSoundExecutor.compileSchema(schemaPath, "directory", true, compiledSchemaPath);
+        assertTrue(directory.getType("person").getFacets().getObjectContent().containsKey("list"));
+        Files.write(Paths.get(compiledSchemaPath), new byte[] { 1, 2, 3 });
+        directory = JSoundExecutor.compileSchema(schemaPath, "directory", true, compiledSchemaPath);
+        assertTrue(JSoundValidateExecutor.validate(directory, valid).isValid());
+    }
+
+    @Test
+    public void testRecursiveTypesAreLinked() throws IOException {
+        CompiledSchema tree = JSoundExecutor.compileSchema(
+            "{ \"node\": { \"!value\": \"integer\", \"children\": \"nodes\" }, \"nodes\": [ \"node\" ] }"
+                .getBytes(StandardCharsets.UTF_8),
+            "node",
+            true
+        );
+        byte[] valid = "{ \"value\": 1, \"children\": [ { \"value\": 2, \"children\": [ { \"value\": 3 } ] } ] }"
+            .getBytes(StandardCharsets.UTF_8);
+        byte[] invalid = "{ \"value\": 1, \"children\": [ { \"children\": [] } ] }".getBytes(StandardCharsets.UTF_8);
+        assertTrue(JSoundValidateExecutor.validate(tree, valid).isValid());
+        assertFalse(JSoundValidateExecutor.validate(tree, invalid).isValid());
+    }
+
+    @Test
+    public void testUnresolvedReferencesFailAtCompileTime() throws IOException {
+        List<String> schemas = List.of(
+            "{ \"record\": { \"v\": \"missing\" } }",
+            "{ \"record\": { \"v\": \"values\" }, \"values\": [ \"missing\" ] }",
+            "{ \"record\": { \"v\": \"integer|missing\" } }"
+        );
+        for (String schema : schemas) {
+            try {
+                JSoundExecutor.compileSchema(schema.getBytes(StandardCharsets.UTF_8), "record", true);
+                fail(schema);
+            } catch (TypeNotResolvedException e) {
+                assertNotNull(e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testFieldNamesAreInternedPerSchema() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        CompiledSchema random = JSoundExecutor.compileSchema(randomSchemaPath, "randomTypes", true);
+        String first = null;
+        for (String name : directory.getType("person").getFacets().getObjectContent().keySet()) {
+            if (name.equals("first"))
+                first = name;
+        }
+        assertNotNull(first);
+        byte[] instance = "{ \"first\": \"Mary\" }".getBytes(StandardCharsets.UTF_8);
+        ItemArena.open(directory.getInternTable());
+        try {
+            Item item = InstanceFileJsonParser.getItem(instance, 0, instance.length);
+            assertSame(first, item.getItemMap().keySet().iterator().next());
+            assertSame(first, InstanceTape.parse(instance, 0, instance.length).getKey(1));
+        } finally {
+            ItemArena.close();
+        }
+        ItemArena.open(random.getInternTable());
+        try {
+            String key = InstanceTape.parse(instance, 0, instance.length).getKey(1);
+            assertEquals(first, key);
+            assertNotSame(first, key);
+        } finally {
+            ItemArena.close();
+        }
+        byte[] name = "first".getBytes(StandardCharsets.UTF_8);
+        assertSame(first, directory.getInternTable().getFieldName(name, 0, name.length));
+        assertNull(random.getInternTable().getFieldName(name, 0, name.length));
+    }
+
+    @Test
+    public void testAnnotationUsesTheCompiledRootType() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        String output = folder.getRoot().getPath() + "/annotated.tyson";
+        JSoundAnnotateExecutor.annotate(directory, "src/main/resources/peopleFile.json", output);
+        String annotation = new String(Files.readAllBytes(Paths.get(output)), StandardCharsets.UTF_8);
+        assertTrue(annotation, annotation.startsWith("(\"directory\")"));
+    }
+}
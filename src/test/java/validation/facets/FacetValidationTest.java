@@ -0,0 +1,205 @@
+package validation.facets;
+
+import jsound.atomicTypes.DecimalType;
+import jsound.atomicTypes.IntegerType;
+import jsound.exceptions.InvalidEnumValueException;
+import jsound.facets.AtomicFacets;
+import jsound.item.ItemFactory;
+import jsound.typedescriptors.TypeOrReference;
+import jsound.typedescriptors.atomic.AtomicTypeDescriptor;
+import jsound.types.ItemTypes;
+import org.api.CompiledSchema;
+import org.api.Item;
+import org.api.executors.JSoundExecutor;
+import org.api.executors.JSoundValidateExecutor;
+import org.junit.Test;
+import validation.InstanceFileTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static jsound.facets.FacetTypes.MAX_EXCLUSIVE;
+import static jsound.facets.FacetTypes.MAX_INCLUSIVE;
+import static jsound.facets.FacetTypes.MIN_EXCLUSIVE;
+import static jsound.facets.FacetTypes.MIN_INCLUSIVE;
+import static jsound.facets.FacetTypes.TOTAL_DIGITS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class FacetValidationTest extends InstanceFileTest {
+
+    @Test
+    public void testLengthAndEnumerationFacets() throws IOException {
+        CompiledSchema code = JSoundExecutor.compileSchema(
+            ("{ \"types\": [ { \"name\": \"code\", \"kind\": \"atomic\", \"baseType\": \"string\", "
+                + "\"length\": 3, \"enumeration\": [ \"abc\", \"xyz\", \"ab\" ] } ] }")
+                    .getBytes(StandardCharsets.UTF_8),
+            "code",
+            false
+        );
+        for (String instance : List.of("\"abc\"", "\"xyz\""))
+            assertTrue(JSoundValidateExecutor.validate(code, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+        for (String instance : List.of("\"ab\"", "\"abd\"", "\"abcd\"", "12"))
+            assertFalse(JSoundValidateExecutor.validate(code, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+    }
+
+    @Test
+    public void testFusedIntegerBounds() {
+        AtomicFacets facets = new AtomicFacets();
+        facets.minInclusive = ItemFactory.getInstance().createIntegerItem(0);
+        facets.minExclusive = ItemFactory.getInstance().createIntegerItem(0);
+        facets.maxInclusive = ItemFactory.getInstance().createIntegerItem(10);
+        facets.maxExclusive = ItemFactory.getInstance().createIntegerItem(100);
+        facets.definedFacets.addAll(Arrays.asList(MIN_INCLUSIVE, MIN_EXCLUSIVE, MAX_INCLUSIVE, MAX_EXCLUSIVE));
+        IntegerType bounded = new IntegerType("bounded", facets);
+        new CompiledSchema(Map.of("bounded", bounded), "bounded", List.of(bounded));
+        assertFalse(bounded.validate(0));
+        assertTrue(bounded.validate(1));
+        assertTrue(bounded.validate(10));
+        assertFalse(bounded.validate(11));
+        assertTrue(bounded.validate(ItemFactory.getInstance().createIntegerItem(5), false));
+        assertFalse(bounded.validate(ItemFactory.getInstance().createIntegerItem(BigInteger.TEN.pow(30)), false));
+    }
+
+    @Test
+    public void testSubtypesCheckOnlyTheirOwnFacets() {
+        AtomicFacets amountFacets = new AtomicFacets();
+        amountFacets.minInclusive = ItemFactory.getInstance().createIntegerItem(10);
+        amountFacets.definedFacets.add(MIN_INCLUSIVE);
+        IntegerType amount = new IntegerType(new AtomicTypeDescriptor(
+            ItemTypes.INTEGER,
+            "amount",
+            new TypeOrReference(new IntegerType("integer", new AtomicFacets())),
+            amountFacets
+        ));
+        AtomicFacets smallAmountFacets = new AtomicFacets();
+        smallAmountFacets.totalDigits = 3;
+        smallAmountFacets.definedFacets.add(TOTAL_DIGITS);
+        IntegerType smallAmount = new IntegerType(new AtomicTypeDescriptor(
+            ItemTypes.INTEGER,
+            "smallAmount",
+            new TypeOrReference(amount),
+            smallAmountFacets
+        ));
+        smallAmount.resolveAllFacets();
+        assertEquals(10, smallAmount.getFacets().minInclusive.getIntegerValue());
+        new CompiledSchema(Map.of("smallAmount", smallAmount), "smallAmount", List.of(smallAmount, amount));
+        for (long value : new long[] { 5, 10, 999, 1000 }) {
+            Item item = ItemFactory.getInstance().createIntegerItem(value);
+            assertEquals(value >= 10, amount.validate(value));
+            assertEquals(value >= 10, amount.validate(item, false));
+            assertEquals(value < 1000, smallAmount.validate(value));
+            assertEquals(value < 1000, smallAmount.validate(item, false));
+        }
+    }
+
+    @Test
+    public void testDateTimeEnumerationComparesInstants() throws IOException {
+        CompiledSchema moment = JSoundExecutor.compileSchema(
+            ("{ \"types\": [ { \"name\": \"moment\", \"kind\": \"atomic\", \"baseType\": \"dateTime\", "
+                + "\"enumeration\": [ \"2020-01-01T00:00:00Z\", \"2020-06-01T12:00:00+02:00\" ] } ] }")
+                    .getBytes(StandardCharsets.UTF_8),
+            "moment",
+            false
+        );
+        for (String instance : List.of("\"2020-01-01T00:00:00Z\"", "\"2020-06-01T10:00:00Z\""))
+            assertTrue(JSoundValidateExecutor.validate(moment, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+        for (String instance : List.of("\"2021-01-01T00:00:00Z\"", "\"2020-06-01T12:00:00Z\""))
+            assertFalse(JSoundValidateExecutor.validate(moment, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+    }
+
+    @Test
+    public void testEnumerationMatchesValueSpace() throws IOException {
+        CompiledSchema amount = JSoundExecutor.compileSchema(
+            ("{ \"types\": [ { \"name\": \"amount\", \"kind\": \"atomic\", \"baseType\": \"decimal\", "
+                + "\"enumeration\": [ 1.50, 2, 0.125 ] } ] }")
+                    .getBytes(StandardCharsets.UTF_8),
+            "amount",
+            false
+        );
+        for (String instance : List.of("1.5", "1.500", "2.0", "2", "0.125"))
+            assertTrue(JSoundValidateExecutor.validate(amount, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+        for (String instance : List.of("1.25", "0.12", "3"))
+            assertFalse(JSoundValidateExecutor.validate(amount, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+    }
+
+    @Test
+    public void testFacetsAreCompiledWithTheSchema() {
+        AtomicFacets facets = new AtomicFacets();
+        facets.maxInclusive = ItemFactory.getInstance().createIntegerItem(10);
+        facets.definedFacets.add(MAX_INCLUSIVE);
+        DecimalType bounded = new DecimalType("bounded", facets);
+        CompiledSchema schema = new CompiledSchema(Map.of("bounded", bounded), "bounded", List.of(bounded));
+        assertSame(bounded, schema.getRootType());
+        assertTrue(bounded.validate(1000, 2));
+        assertFalse(bounded.validate(1001, 2));
+        assertTrue(bounded.validate(ItemFactory.getInstance().createIntegerItem(5), false));
+    }
+
+    @Test
+    public void testRequiredFieldsBeyondOneWord() throws IOException {
+        StringBuilder schema = new StringBuilder("{ \"wide\": { ");
+        StringBuilder complete = new StringBuilder("{ ");
+        for (int field = 0; field < 70; field++) {
+            schema.append(field == 0 ? "" : ", ").append("\"f").append(field).append("!\": \"integer\"");
+            complete.append(field == 0 ? "" : ", ").append("\"f").append(field).append("\": ").append(field);
+        }
+        schema.append(", \"g\": \"string\" } }");
+        CompiledSchema wide = JSoundExecutor.compileSchema(writeSchema(schema.toString()), "wide", true);
+        String valid = complete + ", \"g\": \"x\" }";
+        String missing = valid.replace("\"f69\": 69", "\"g\": \"y\"");
+        String duplicated = valid.replace("\"f69\": 69", "\"f68\": 68");
+        for (String instance : List.of(valid, missing, duplicated)) {
+            boolean isValid = instance.equals(valid);
+            byte[] bytes = instance.getBytes(StandardCharsets.UTF_8);
+            assertEquals(isValid, JSoundValidateExecutor.validate(wide, bytes).isValid());
+            assertEquals(isValid, JSoundValidateExecutor.validate(wide, new ByteArrayInputStream(bytes)).isValid());
+            assertEquals(isValid, JSoundValidateExecutor.validateTree(wide, writeInstance(instance)));
+        }
+    }
+
+    @Test
+    public void testDurationAndBinaryEnumerationsMatchValueSpace() throws IOException {
+        CompiledSchema timeout = JSoundExecutor.compileSchema(
+            ("{ \"types\": [ { \"name\": \"timeout\", \"kind\": \"atomic\", \"baseType\": \"duration\", "
+                + "\"enumeration\": [ \"PT1H\", \"P1D\", \"P1Y\" ] } ] }")
+                    .getBytes(StandardCharsets.UTF_8),
+            "timeout",
+            false
+        );
+        for (String instance : List.of("\"PT60M\"", "\"PT3600S\"", "\"PT24H\"", "\"P12M\"", "\"P1D\""))
+            assertTrue(JSoundValidateExecutor.validate(timeout, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+        for (String instance : List.of("\"PT61M\"", "\"P30D\"", "\"P365D\"", "\"P1M\""))
+            assertFalse(JSoundValidateExecutor.validate(timeout, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+
+        CompiledSchema digest = JSoundExecutor.compileSchema(
+            ("{ \"types\": [ { \"name\": \"digest\", \"kind\": \"atomic\", \"baseType\": \"hexBinary\", "
+                + "\"enumeration\": [ \"0A0B\", \"ff\" ] } ] }")
+                    .getBytes(StandardCharsets.UTF_8),
+            "digest",
+            false
+        );
+        for (String instance : List.of("\"0a0b\"", "\"0A0B\"", "\"FF\""))
+            assertTrue(JSoundValidateExecutor.validate(digest, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+        for (String instance : List.of("\"0a0c\"", "\"00ff\""))
+            assertFalse(JSoundValidateExecutor.validate(digest, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+    }
+
+    @Test(expected = InvalidEnumValueException.class)
+    public void testEnumerationOutsideValueSpaceFailsAtCompileTime() throws IOException {
+        JSoundExecutor.compileSchema(
+            ("{ \"types\": [ { \"name\": \"moment\", \"kind\": \"atomic\", \"baseType\": \"dateTime\", "
+                + "\"enumeration\": [ \"2020-01-01T00:00:00Z\", \"yesterday\" ] } ] }")
+                    .getBytes(StandardCharsets.UTF_8),
+            "moment",
+            false
+        );
+    }
+}
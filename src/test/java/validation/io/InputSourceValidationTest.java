@@ -0,0 +1,164 @@
+package validation.io;
+
+import jsound.exceptions.JsoundException;
+import org.api.BatchValidationResult;
+import org.api.CompiledSchema;
+import org.api.ValidationResult;
+import org.api.executors.JSoundExecutor;
+import org.api.executors.JSoundValidateExecutor;
+import org.junit.Test;
+import validation.InstanceFileTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InputSourceValidationTest extends InstanceFileTest {
+
+    @Test
+    public void testNonAsciiContentIsReadAsUtf8() throws IOException {
+        String schema = writeSchema(
+            "{ \"types\": [ { \"name\": \"short\", \"kind\": \"atomic\", \"baseType\": \"string\", "
+                + "\"length\": 3 } ] }"
+        );
+        String filePath = writeInstance("\"Zoë\"");
+        assertTrue(JSoundValidateExecutor.validate(schema, filePath, "short", false));
+        assertTrue(JSoundValidateExecutor.validateTree(schema, filePath, "short", false));
+    }
+
+    @Test
+    public void testInMemoryInstances() throws IOException {
+        byte[] schemaDefinition = Files.readAllBytes(Paths.get(peopleSchemaPath));
+        CompiledSchema directory = JSoundExecutor.compileSchema(schemaDefinition, "directory", true);
+        byte[] valid = Files.readAllBytes(Paths.get("src/main/resources/peopleFile.json"));
+        assertTrue(JSoundValidateExecutor.validate(directory, valid).isValid());
+
+        byte[] padded = ("xx{ \"people\": [ { \"last\": \"Kirk\" } ] }yy").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer slice = ByteBuffer.wrap(padded, 2, padded.length - 4).slice();
+        assertFalse(JSoundValidateExecutor.validate(directory, slice).isValid());
+        ValidationResult malformed = JSoundValidateExecutor.validate(directory, ByteBuffer.wrap(padded));
+        assertFalse(malformed.isValid());
+        assertNotNull(malformed.getErrorMessage());
+
+        CompiledSchema persons = JSoundExecutor.compileSchema(schemaDefinition, "persons", true);
+        byte[] people = "[ { \"first\": \"Mary\" }, { \"first\": \"Ann\" } ]".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(people.length).put(people).flip();
+        assertTrue(JSoundValidateExecutor.validate(persons, direct).isValid());
+        assertTrue(JSoundValidateExecutor.validate(persons, new ByteArrayInputStream(people)).isValid());
+        assertFalse(JSoundValidateExecutor.validate(persons, new ByteArrayInputStream(valid)).isValid());
+    }
+
+    @Test
+    public void testBatchOfFiles() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        StringBuilder people = new StringBuilder("{ \"people\": [ ");
+        for (int i = 0; i < 20000; i++)
+            people.append(i == 0 ? "" : ", ").append("{ \"first\": \"Ann").append(i).append("\" }");
+        String large = writeInstance(people.append(" ] }").toString());
+        assertTrue(Files.size(Paths.get(large)) > 256 * 1024);
+        assertTrue(JSoundValidateExecutor.validateFile(directory, large));
+        File compressed = folder.newFile("large.json.gz");
+        try (OutputStream output = new GZIPOutputStream(new FileOutputStream(compressed))) {
+            output.write(Files.readAllBytes(Paths.get(large)));
+        }
+        List<String> filePaths = List.of(
+            "src/main/resources/peopleFile.json",
+            writeInstance("{ \"people\": [ { \"last\": \"Kirk\" } ] }"),
+            folder.getRoot().getPath() + "/missing.json",
+            writeInstance("{ \"people\": [] }"),
+            writeInstance(""),
+            large,
+            compressed.getPath(),
+            writeInstance("{ \"people\": [] } { }")
+        );
+        List<Long> invalidFiles = new ArrayList<>();
+        BatchValidationResult result = JSoundValidateExecutor.validateFiles(
+            directory,
+            filePaths,
+            (fileNumber, isValid, errorMessage) -> {
+                if (!isValid)
+                    invalidFiles.add(fileNumber);
+            }
+        );
+        assertEquals(8, result.getRecordCount());
+        assertEquals(List.of(2L, 3L, 5L, 8L), invalidFiles);
+    }
+
+    @Test
+    public void testStandardInputIsStreamed() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        byte[] valid = Files.readAllBytes(Paths.get("src/main/resources/peopleFile.json"));
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream output = new GZIPOutputStream(compressed)) {
+            output.write(valid);
+        }
+        InputStream standardInput = System.in;
+        try {
+            boolean[] closed = new boolean[1];
+            System.setIn(new ByteArrayInputStream(valid) {
+                @Override
+                public void close() {
+                    closed[0] = true;
+                }
+            });
+            assertTrue(JSoundValidateExecutor.validateFile(directory, "-"));
+            assertFalse(closed[0]);
+            System.setIn(new ByteArrayInputStream(compressed.toByteArray()));
+            assertTrue(JSoundValidateExecutor.validateFile(directory, "-"));
+            System.setIn(new ByteArrayInputStream(
+                "{ \"people\": [ { \"last\": \"Kirk\" } ] }".getBytes(StandardCharsets.UTF_8)
+            ));
+            assertFalse(JSoundValidateExecutor.validateFile(directory, "-"));
+            System.setIn(new ByteArrayInputStream("{ \"people\": [] } []".getBytes(StandardCharsets.UTF_8)));
+            try {
+                JSoundValidateExecutor.validateFile(directory, "-");
+                fail();
+            } catch (JsoundException e) {
+                assertNotNull(e.getMessage());
+            }
+        } finally {
+            System.setIn(standardInput);
+        }
+    }
+
+    @Test
+    public void testDirectBuffersAreStreamed() throws IOException {
+        byte[] schemaDefinition = Files.readAllBytes(Paths.get(peopleSchemaPath));
+        CompiledSchema directory = JSoundExecutor.compileSchema(schemaDefinition, "directory", true);
+        StringBuilder people = new StringBuilder("{ \"people\": [ ");
+        for (int i = 0; i < 20000; i++)
+            people.append(i == 0 ? "" : ", ").append("{ \"first\": \"Mary\", \"last\": \"Ann").append(i).append("\" }");
+        byte[] valid = people.append(" ] }").toString().getBytes(StandardCharsets.UTF_8);
+        assertTrue(valid.length > 64 * 1024);
+        assertTrue(JSoundValidateExecutor.validate(directory, toDirectBuffer(valid)).isValid());
+        assertTrue(JSoundValidateExecutor.validate(directory, new ByteArrayInputStream(valid)).isValid());
+
+        byte[] invalid = "{ \"people\": [ { \"last\": \"Kirk\" } ] }".getBytes(StandardCharsets.UTF_8);
+        assertFalse(JSoundValidateExecutor.validate(directory, toDirectBuffer(invalid)).isValid());
+        byte[] trailing = "{ \"people\": [ ] } { }".getBytes(StandardCharsets.UTF_8);
+        ValidationResult malformed = JSoundValidateExecutor.validate(directory, toDirectBuffer(trailing));
+        assertFalse(malformed.isValid());
+        assertNotNull(malformed.getErrorMessage());
+    }
+
+    private static ByteBuffer toDirectBuffer(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+}
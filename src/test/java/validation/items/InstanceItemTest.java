@@ -0,0 +1,286 @@
+package validation.items;
+
+import com.jsoniter.JsonIterator;
+import jsound.exceptions.JsoundException;
+import jsound.item.InternTable;
+import jsound.item.ItemArena;
+import jsound.item.ItemFactory;
+import jsound.json.InstanceFileJsonParser;
+import org.api.CompiledSchema;
+import org.api.Item;
+import org.api.ValidationResult;
+import org.api.executors.JSoundExecutor;
+import org.api.executors.JSoundValidateExecutor;
+import org.junit.Test;
+import validation.InstanceFileTest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InstanceItemTest extends InstanceFileTest {
+
+    @Test
+    public void testIntegersBeyond32Bits() throws IOException {
+        String schema = writeSchema(
+            "{ \"types\": [ { \"name\": \"id\", \"kind\": \"atomic\", \"baseType\": \"integer\", "
+                + "\"enumeration\": [ 4294967296, 123456789012345678901234567890 ] } ] }"
+        );
+        String filePath = writeInstance(
+            "4294967296\n9223372036854775807\n\"-9223372036854775808\"\n"
+                + "123456789012345678901234567890\n4294967296.5\n"
+        );
+        List<Long> invalidRecords = new ArrayList<>();
+        JSoundValidateExecutor.validateLines(
+            schema,
+            filePath,
+            "id",
+            false,
+            (recordNumber, isValid, errorMessage) -> {
+                if (!isValid)
+                    invalidRecords.add(recordNumber);
+            }
+        );
+        assertEquals(List.of(2L, 3L, 5L), invalidRecords);
+    }
+
+    @Test
+    public void testRepeatedValidationReusesNoState() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        byte[] valid = Files.readAllBytes(Paths.get("src/main/resources/peopleFile.json"));
+        byte[] invalid = "{ \"people\": [ { \"last\": \"Kirk\" } ] }".getBytes(StandardCharsets.UTF_8);
+        for (int round = 0; round < 3; round++) {
+            assertTrue(JSoundValidateExecutor.validate(directory, valid).isValid());
+            assertFalse(JSoundValidateExecutor.validate(directory, invalid).isValid());
+        }
+    }
+
+    @Test
+    public void testCanonicalItems() throws IOException {
+        String schema = writeSchema(
+            "{ \"types\": [ { \"name\": \"color\", \"kind\": \"atomic\", \"baseType\": \"string\", "
+                + "\"enumeration\": [ \"red\", \"green\" ] } ] }"
+        );
+        CompiledSchema color = JSoundExecutor.compileSchema(schema, "color", false);
+        Item red = color.getRootType().getFacets().getEnumeration().get(0);
+        assertSame(ItemFactory.getInstance().createIntegerItem(7), ItemFactory.getInstance().createIntegerItem(7));
+
+        byte[] instance = "[ \"blue\", \"blue\", \"red\" ]".getBytes(StandardCharsets.UTF_8);
+        ItemArena.open(color.getInternTable());
+        try {
+            List<Item> colors = InstanceFileJsonParser.getLazyItem(instance, 0, instance.length).getItems();
+            assertSame(colors.get(0), colors.get(1));
+            assertSame(red, colors.get(2));
+        } finally {
+            ItemArena.close();
+        }
+        List<Item> colors = InstanceFileJsonParser.getLazyItem(instance, 0, instance.length).getItems();
+        assertNotSame(red, colors.get(2));
+        assertTrue(JSoundValidateExecutor.validate(color, "\"green\"".getBytes(StandardCharsets.UTF_8)).isValid());
+        assertFalse(JSoundValidateExecutor.validate(color, "\"blue\"".getBytes(StandardCharsets.UTF_8)).isValid());
+    }
+
+    @Test
+    public void testStringLengthOverRawInput() throws IOException {
+        String schema = writeSchema(
+            "{ \"types\": [ { \"name\": \"pair\", \"kind\": \"atomic\", \"baseType\": \"string\", "
+                + "\"length\": 2 } ] }"
+        );
+        CompiledSchema pair = JSoundExecutor.compileSchema(schema, "pair", false);
+        for (String instance : List.of(
+            "\"\uD83D\uDE00x\"",
+            "\"\u00e9\u00e8\"",
+            "\"\\u00e9x\"",
+            "\"\\uD83D\\uDE00x\"",
+            "\"ab\""
+        )) {
+            assertTrue(JSoundValidateExecutor.validate(pair, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+            assertTrue(JSoundValidateExecutor.validateTree(schema, writeInstance(instance), "pair", false));
+        }
+        for (String instance : List.of("\"\u00e9\"", "\"\uD83D\uDE00\"", "\"\\uD83D\\uDE00\"")) {
+            assertFalse(JSoundValidateExecutor.validate(pair, instance.getBytes(StandardCharsets.UTF_8)).isValid());
+            assertFalse(JSoundValidateExecutor.validateTree(schema, writeInstance(instance), "pair", false));
+        }
+    }
+
+    @Test
+    public void testUniqueNumericFieldsCompareValues() throws IOException {
+        String schema = writeSchema(
+            "{ \"recs\": [\"rec\"], \"rec\": { \"@id\": \"integer\" } }"
+        );
+        CompiledSchema recs = JSoundExecutor.compileSchema(schema, "recs", true);
+        for (String id : List.of("5", "5000", "9223372036854775807", "123456789012345678901234567890")) {
+            String duplicates = "[ { \"id\": " + id + " }, { \"id\": " + id + " } ]";
+            assertFalse(JSoundValidateExecutor.validate(recs, duplicates.getBytes(StandardCharsets.UTF_8)).isValid());
+            assertFalse(JSoundValidateExecutor.validateTree(recs, writeInstance(duplicates)));
+        }
+        byte[] distinct = "[ { \"id\": 5000 }, { \"id\": 5001 } ]".getBytes(StandardCharsets.UTF_8);
+        assertTrue(JSoundValidateExecutor.validate(recs, distinct).isValid());
+    }
+
+    @Test
+    public void testCanonicalStringsArePerSchema() throws IOException {
+        CompiledSchema[] schemas = new CompiledSchema[2];
+        for (int index = 0; index < schemas.length; index++) {
+            String schema = writeSchema(
+                "{ \"types\": [ { \"name\": \"color\", \"kind\": \"atomic\", \"baseType\": \"string\", "
+                    + "\"enumeration\": [ \"red\", \"green\" ] } ] }"
+            );
+            schemas[index] = JSoundExecutor.compileSchema(schema, "color", false);
+        }
+        byte[] red = "\"red\"".getBytes(StandardCharsets.UTF_8);
+        Item[] items = new Item[schemas.length];
+        for (int index = 0; index < schemas.length; index++) {
+            ItemArena.open(schemas[index].getInternTable());
+            try {
+                items[index] = InstanceFileJsonParser.getItem(red, 0, red.length);
+                assertSame(schemas[index].getInternTable().getStringItem(red, 1, red.length - 1), items[index]);
+            } finally {
+                ItemArena.close();
+            }
+        }
+        assertNotSame(items[0], items[1]);
+        assertEquals("red", items[0].getStringValue());
+
+        InternTable bounded = new InternTable(InternTable.MAX_ENTRIES + 1);
+        for (int index = 0; index < InternTable.MAX_ENTRIES; index++)
+            assertTrue(bounded.addFieldName("field" + index));
+        assertFalse(bounded.addFieldName("overflow"));
+        assertEquals(InternTable.MAX_ENTRIES, bounded.size());
+    }
+
+    @Test
+    public void testNumbersAndStringsAreReadForward() throws IOException {
+        byte[] buffer = ("[ -0, 9223372036854775807, -9223372036854775808, 9223372036854775808, 1.50, -2e3, "
+            + "\"a\\u0062c\", { }, { \"x\" : 1 } ]123").getBytes(StandardCharsets.UTF_8);
+        for (
+            Item array : List.of(
+                InstanceFileJsonParser.getItemFromObject(JsonIterator.parse(buffer, 0, buffer.length - 3)),
+                InstanceFileJsonParser.getItem(buffer, 0, buffer.length - 3)
+            )
+        ) {
+            List<Item> items = array.getItems();
+            assertEquals(0, items.get(0).getIntegerValue());
+            assertEquals(Long.MAX_VALUE, items.get(1).getIntegerValue());
+            assertEquals(Long.MIN_VALUE, items.get(2).getIntegerValue());
+            assertEquals(new BigInteger("9223372036854775808"), items.get(3).getBigIntegerValue());
+            assertEquals(new BigDecimal("1.50"), items.get(4).getDecimalValue());
+            assertEquals(-2000.0, items.get(5).getDoubleValue(), 0);
+            assertEquals("abc", items.get(6).getStringValue());
+            assertTrue(items.get(7).getItemMap().isEmpty());
+            assertEquals(1, items.get(8).getItemMap().get("x").getIntegerValue());
+        }
+
+        byte[] number = "4294967296".getBytes(StandardCharsets.UTF_8);
+        Item prefix = InstanceFileJsonParser.getItem(number, 0, 2);
+        assertEquals(42, prefix.getIntegerValue());
+    }
+
+    @Test
+    public void testClosedArenaReleasesPooledItems() {
+        byte[] buffer = "\"pooled\"".getBytes(StandardCharsets.UTF_8);
+        Item pooled;
+        Item object;
+        ItemArena.open(InternTable.EMPTY);
+        try {
+            pooled = ItemFactory.getInstance().createStringItem(buffer, 1, buffer.length - 1);
+            object = ItemFactory.getInstance().createObjectItem(Collections.singletonMap("key", pooled));
+            assertEquals("pooled", pooled.getStringValue());
+        } finally {
+            ItemArena.close();
+        }
+        for (Item released : List.of(pooled, object)) {
+            try {
+                released.getStringAnnotation();
+                fail();
+            } catch (IllegalStateException e) {
+                assertNotNull(e.getMessage());
+            }
+        }
+        ItemArena.open(InternTable.EMPTY);
+        try {
+            Item reused = ItemFactory.getInstance().createStringItem(buffer, 1, buffer.length - 1);
+            assertSame(pooled, reused);
+            assertEquals("pooled", reused.getStringValue());
+        } finally {
+            ItemArena.close();
+        }
+    }
+
+    @Test
+    public void testTruncatedInstancesAreMalformed() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        byte[] instance = ("{ \"people\": [ { \"first\": \"A\\u006en\", \"id\": -12.5 }, "
+            + "{ \"first\": \"Bo\", \"x\": [ true, false ] } ] }").getBytes(StandardCharsets.UTF_8);
+        for (int end = 0; end < instance.length; end++) {
+            ValidationResult result = JSoundValidateExecutor.validate(directory, instance, 0, end);
+            assertFalse(result.isValid());
+            assertNotNull(result.getErrorMessage());
+            try {
+                InstanceFileJsonParser.getItem(instance, 0, end);
+                fail();
+            } catch (JsoundException e) {
+                assertNotNull(e.getMessage());
+            }
+        }
+        assertTrue(JSoundValidateExecutor.validate(directory, instance).isValid());
+    }
+
+    @Test
+    public void testNestedArenasKeepOuterItems() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        byte[] buffer = "\"outer\"".getBytes(StandardCharsets.UTF_8);
+        byte[] instance = "{ \"people\": [ { \"first\": \"Ann\" }, { \"first\": \"Bo\" } ] }"
+            .getBytes(StandardCharsets.UTF_8);
+        ItemArena.open(directory.getInternTable());
+        try {
+            Item outer = ItemFactory.getInstance().createStringItem(buffer, 1, buffer.length - 1);
+            assertTrue(JSoundValidateExecutor.validate(directory, instance).isValid());
+            assertEquals("outer", outer.getStringValue());
+            assertSame(directory.getInternTable(), ItemArena.internTable());
+            Item inner = ItemFactory.getInstance().createStringItem(buffer, 1, buffer.length - 1);
+            assertNotSame(outer, inner);
+        } finally {
+            ItemArena.close();
+        }
+        assertSame(InternTable.EMPTY, ItemArena.internTable());
+        try {
+            ItemArena.close();
+            fail();
+        } catch (IllegalStateException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testMalformedNumbersAreInvalidInstances() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        for (String number : List.of("1-2", "01", "1.", "-", "1e", "-.5", "1.5.2", "2e3e4")) {
+            byte[] instance = ("{ \"people\": [ { \"first\": \"Ann\", \"id\": " + number + " } ] }")
+                .getBytes(StandardCharsets.UTF_8);
+            ValidationResult result = JSoundValidateExecutor.validate(directory, instance);
+            assertFalse(number, result.isValid());
+            assertNotNull(number, result.getErrorMessage());
+            try {
+                InstanceFileJsonParser.getItemFromObject(JsonIterator.parse(number));
+                fail(number);
+            } catch (JsoundException e) {
+                assertNotNull(e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package validation.items;
+
+import jsound.item.ItemArena;
+import jsound.item.ObjectShape;
+import jsound.item.ShapedObjectItem;
+import jsound.json.InstanceFileJsonParser;
+import org.api.CompiledSchema;
+import org.api.Item;
+import org.api.executors.JSoundExecutor;
+import org.junit.Test;
+import validation.InstanceFileTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class InstanceObjectTest extends InstanceFileTest {
+
+    @Test
+    public void testMembersAreDecodedOnce() {
+        byte[] instance = "{ \"a\": { \"b\": 1 }, \"c\": [ \"d\" ] }".getBytes(StandardCharsets.UTF_8);
+        Item object = InstanceFileJsonParser.getLazyItem(instance, 0, instance.length);
+        Item a = object.getItemMap().get("a");
+        assertSame(a, object.getItemMap().get("a"));
+        assertEquals(1, a.getItemMap().get("b").getIntegerValue());
+        Item c = object.getItemMap().get("c");
+        assertSame(c.getItems().get(0), c.getItems().get(0));
+        assertEquals("d", c.getItems().get(0).getStringValue());
+    }
+
+    @Test
+    public void testKeysAreInternedAgainstFieldNames() throws IOException {
+        String schema = writeSchema("{ \"record\": { \"internedField\": \"integer\" } }");
+        CompiledSchema record = JSoundExecutor.compileSchema(schema, "record", true);
+        Collection<String> fieldNames = record.getType("record").getFacets().getObjectContent().keySet();
+        String internedField = findKey(fieldNames, "internedField");
+        byte[] instance = "{ \"internedField\": 1, \"otherField\": 2 }".getBytes(StandardCharsets.UTF_8);
+        ItemArena.open(record.getInternTable());
+        try {
+            Item object = InstanceFileJsonParser.getLazyItem(instance, 0, instance.length);
+            assertSame(internedField, findKey(object.getItemMap().keySet(), "internedField"));
+            assertNotNull(findKey(object.getItemMap().keySet(), "otherField"));
+        } finally {
+            ItemArena.close();
+        }
+    }
+
+    @Test
+    public void testObjectsWithTheSameKeysShareAShape() {
+        byte[] instance = "[ { \"a\": 1, \"b\": 2 }, { \"a\": 3, \"b\": 4 }, { \"b\": 5, \"a\": 6 } ]"
+            .getBytes(StandardCharsets.UTF_8);
+        List<Item> objects = InstanceFileJsonParser.getLazyItem(instance, 0, instance.length).getItems();
+        ObjectShape shape = ((ShapedObjectItem) objects.get(0)).getShape();
+        assertSame(shape, ((ShapedObjectItem) objects.get(1)).getShape());
+        assertNotSame(shape, ((ShapedObjectItem) objects.get(2)).getShape());
+        assertEquals(List.of("a", "b"), shape.getKeys());
+        assertEquals(6, objects.get(2).getItemMap().get("a").getIntegerValue());
+    }
+
+    @Test
+    public void testWideObjectsGetPrivateShapes() {
+        List<Item> objects = getObjects(64);
+        assertSame(((ShapedObjectItem) objects.get(0)).getShape(), ((ShapedObjectItem) objects.get(1)).getShape());
+        objects = getObjects(65);
+        ObjectShape shape = ((ShapedObjectItem) objects.get(0)).getShape();
+        assertNotSame(shape, ((ShapedObjectItem) objects.get(1)).getShape());
+        assertEquals(65, shape.size());
+        assertEquals(64, shape.indexOf("key64"));
+        assertEquals(64, objects.get(1).getItemMap().get("key64").getIntegerValue());
+    }
+
+    private static String findKey(Collection<String> keys, String name) {
+        for (String key : keys) {
+            if (key.equals(name))
+                return key;
+        }
+        return null;
+    }
+
+    private static List<Item> getObjects(int keyCount) {
+        StringBuilder object = new StringBuilder("{");
+        for (int index = 0; index < keyCount; index++)
+            object.append(index == 0 ? " \"key" : ", \"key").append(index).append("\": ").append(index);
+        object.append(" }");
+        byte[] instance = ("[ " + object + ", " + object + " ]").getBytes(StandardCharsets.UTF_8);
+        return InstanceFileJsonParser.getLazyItem(instance, 0, instance.length).getItems();
+    }
+}
@@ -0,0 +1,103 @@
+package validation.ndjson;
+
+import org.api.BatchValidationResult;
+import org.api.executors.JSoundValidateExecutor;
+import org.junit.Test;
+import validation.InstanceFileTest;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JsonLinesValidationTest extends InstanceFileTest {
+
+    @Test
+    public void testJsonLines() throws IOException {
+        String filePath = writeInstance(
+            "{ \"people\": [ { \"first\": \"Mary\" } ] }\n"
+                + "\n"
+                + "{ \"people\": [ { \"last\": \"Kirk\" } ] }\r\n"
+                + "{ \"people\": [ { \"first\": \"James\"\n"
+                + "{ \"people\": [] }"
+        );
+        List<Long> invalidRecords = new ArrayList<>();
+        BatchValidationResult result = JSoundValidateExecutor.validateLines(
+            peopleSchemaPath,
+            filePath,
+            "directory",
+            true,
+            (recordNumber, isValid, errorMessage) -> {
+                if (!isValid)
+                    invalidRecords.add(recordNumber);
+            }
+        );
+        assertEquals(4, result.getRecordCount());
+        assertEquals(2, result.getValidCount());
+        assertEquals(List.of(3L, 4L), invalidRecords);
+    }
+
+    @Test
+    public void testParallelJsonLines() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            if (i % 997 == 0)
+                content.append("{ \"people\": [ { \"last\": \"Kirk\" } ] }\n");
+            else if (i % 1009 == 0)
+                content.append("{ \"people\": [ { \"first\": \"James\"\n");
+            else
+                content.append("{ \"people\": [ { \"first\": \"Mary\", \"last\": \"Jones\" } ] }\n");
+        }
+        String filePath = writeInstance(content.toString());
+        assertEquals(collectInvalidRecords(filePath, 1), collectInvalidRecords(filePath, 4));
+    }
+
+    @Test
+    public void testCompressedInput() throws IOException {
+        File jsonFile = folder.newFile("people.json.gz");
+        try (OutputStream output = new GZIPOutputStream(new FileOutputStream(jsonFile))) {
+            output.write(Files.readAllBytes(Paths.get("src/main/resources/peopleFile.json")));
+        }
+        assertTrue(JSoundValidateExecutor.validate(peopleSchemaPath, jsonFile.getPath(), "directory", true));
+        assertTrue(JSoundValidateExecutor.validateTree(peopleSchemaPath, jsonFile.getPath(), "directory", true));
+
+        File linesFile = folder.newFile("people.ndjson.deflate");
+        try (OutputStream output = new DeflaterOutputStream(
+                new FileOutputStream(linesFile),
+                new Deflater(Deflater.DEFAULT_COMPRESSION, true)
+        )) {
+            output.write(
+                "{ \"people\": [] }\n{ \"people\": [ { \"last\": \"Kirk\" } ] }\n".getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        assertEquals(List.of(2L), collectInvalidRecords(linesFile.getPath(), 1));
+        assertEquals(List.of(2L), collectInvalidRecords(linesFile.getPath(), 2));
+    }
+
+    private List<Long> collectInvalidRecords(String filePath, int workers) throws IOException {
+        List<Long> invalidRecords = new ArrayList<>();
+        JSoundValidateExecutor.validateLines(
+            peopleSchemaPath,
+            filePath,
+            "directory",
+            true,
+            workers,
+            (recordNumber, isValid, errorMessage) -> {
+                if (!isValid)
+                    invalidRecords.add(recordNumber);
+            }
+        );
+        return invalidRecords;
+    }
+}
@@ -0,0 +1,170 @@
+package validation.streaming;
+
+import jsound.exceptions.JsoundException;
+import jsound.json.JsonStreamReader;
+import org.api.CompiledSchema;
+import org.api.executors.JSoundExecutor;
+import org.api.executors.JSoundValidateExecutor;
+import org.junit.Test;
+import validation.InstanceFileTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StreamingValidationTest extends InstanceFileTest {
+    static String randomSchemaPath = "src/main/resources/randomSchema.json";
+
+    @Test
+    public void testSampleFilesAgreeWithTreeValidation() throws IOException {
+        assertSameResult(peopleSchemaPath, "src/main/resources/peopleFile.json", "directory", true);
+        assertSameResult(randomSchemaPath, "src/main/resources/randomFile.json", "randomTypes", true);
+        assertTrue(
+            JSoundValidateExecutor.validate(peopleSchemaPath, "src/main/resources/peopleFile.json", "directory", true)
+        );
+    }
+
+    @Test
+    public void testMissingRequiredField() throws IOException {
+        String filePath = writeInstance("{ \"people\": [ { \"last\": \"Kirk\", \"picture\": \"af88\" } ] }");
+        assertSameResult(peopleSchemaPath, filePath, "directory", true);
+        assertFalse(JSoundValidateExecutor.validate(peopleSchemaPath, filePath, "directory", true));
+    }
+
+    @Test
+    public void testInvalidNestedValue() throws IOException {
+        String filePath = writeInstance(
+            "{ \"people\": [ { \"first\": \"Mary\", \"birthDate\": 12 }, { \"first\": 1 } ], \"other\": [ {} ] }"
+        );
+        assertSameResult(peopleSchemaPath, filePath, "directory", true);
+        assertFalse(JSoundValidateExecutor.validate(peopleSchemaPath, filePath, "directory", true));
+    }
+
+    @Test
+    public void testUniqueFieldViolation() throws IOException {
+        String filePath = writeInstance(
+            "{ \"people\": [ { \"first\": \"Mary\", \"picture\": \"af88\" }, "
+                + "{ \"first\": \"Ann\", \"picture\": \"af88\" } ] }"
+        );
+        assertSameResult(peopleSchemaPath, filePath, "directory", true);
+    }
+
+    @Test
+    public void testTopLevelArrayElementByElement() throws IOException {
+        StringBuilder content = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            content.append(i == 0 ? "\n" : ",\n")
+                .append("  { \"first\": \"Mary, [\\\"Jr.\\\"] {")
+                .append(i)
+                .append("}\", \"last\": \"Jones\" }");
+        }
+        String validPath = writeInstance(content.toString() + "\n]\n");
+        assertSameResult(peopleSchemaPath, validPath, "persons", true);
+        assertTrue(JSoundValidateExecutor.validate(peopleSchemaPath, validPath, "persons", true));
+
+        String invalidPath = writeInstance(content.toString() + ", { \"last\": \"Kirk\" } ]");
+        assertSameResult(peopleSchemaPath, invalidPath, "persons", true);
+        assertFalse(JSoundValidateExecutor.validate(peopleSchemaPath, invalidPath, "persons", true));
+    }
+
+    @Test(expected = JsoundException.class)
+    public void testMalformedTopLevelArray() throws IOException {
+        String filePath = writeInstance("[ { \"first\": \"Mary\" }, ]");
+        JSoundValidateExecutor.validate(peopleSchemaPath, filePath, "persons", true);
+    }
+
+    @Test
+    public void testNestedArraysAreStreamed() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        StringBuilder content = new StringBuilder("{ \"other\": { \"skipped\": [ \"]\" ] }, \"people\": [");
+        for (int i = 0; i < 20000; i++) {
+            content.append(i == 0 ? "" : ",")
+                .append("{ \"first\": \"Mary\", \"last\": \"Jones ")
+                .append(i)
+                .append("\" }");
+        }
+        String validPath = writeInstance(content.toString() + "] }");
+        assertTrue(JSoundValidateExecutor.validateFile(directory, validPath));
+        assertEquals(
+            JSoundValidateExecutor.validateTree(directory, validPath),
+            JSoundValidateExecutor.validateFile(directory, validPath)
+        );
+        String invalidPath = writeInstance(content.toString() + ", { \"first\": 1 } ] }");
+        assertFalse(JSoundValidateExecutor.validateFile(directory, invalidPath));
+    }
+
+    @Test
+    public void testMalformedUndeclaredFieldsAreRejectedWhileStreaming() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        String valid = "{ \"people\": [ ], \"extra\": [ 1, { \"a\": [ null, false ] }, \"\\u00e9\", -2.5E-3 ] }";
+        assertTrue(JSoundValidateExecutor.validateFile(directory, writeInstance(valid)));
+        List<String> members = List.of(
+            "[1,}", "tru", "nul", "[1 2]", "{\"a\" 1}", "{\"a\": 1,}", "01", "1.", "\"\\q\""
+        );
+        for (String member : members) {
+            String malformed = "{ \"people\": [ ], \"extra\": " + member + " }";
+            byte[] bytes = malformed.getBytes(StandardCharsets.UTF_8);
+            assertFalse(member, JSoundValidateExecutor.validate(directory, new ByteArrayInputStream(bytes)).isValid());
+            assertFalse(member, JSoundValidateExecutor.validate(directory, bytes).isValid());
+            try {
+                JSoundValidateExecutor.validateFile(directory, writeInstance(malformed));
+                fail(member);
+            } catch (JsoundException e) {
+                assertNotNull(e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testValuesHeldInMemoryAreBounded() throws IOException, InterruptedException {
+        CompiledSchema people = JSoundExecutor.compileSchema(
+            writeSchema(
+                "{ \"people\": \"persons|string\", \"persons\": [\"person\"], "
+                    + "\"person\": { \"first!\": \"string\" } }"
+            ),
+            "people",
+            true
+        );
+        byte[] small = "[ { \"first\": \"Ann\" } ]".getBytes(StandardCharsets.UTF_8);
+        try (JsonStreamReader instance = new JsonStreamReader(new ByteArrayInputStream(small), 16, 1024)) {
+            assertTrue(people.getRootType().validate(instance));
+        }
+
+        PipedOutputStream output = new PipedOutputStream();
+        PipedInputStream input = new PipedInputStream(output);
+        Thread writer = new Thread(() -> {
+            try (output) {
+                output.write('[');
+                for (int i = 0; i < 20000; i++)
+                    output.write(("{ \"first\": \"Ann" + i + "\" }, ").getBytes(StandardCharsets.UTF_8));
+                output.write("{ \"first\": \"Bo\" } ]".getBytes(StandardCharsets.UTF_8));
+            } catch (IOException ignored) {
+            }
+        });
+        writer.start();
+        try (JsonStreamReader instance = new JsonStreamReader(input, 1024, 64 * 1024)) {
+            people.getRootType().validate(instance);
+            fail();
+        } catch (JsoundException e) {
+            assertNotNull(e.getMessage());
+        }
+        writer.join();
+    }
+
+    private void assertSameResult(String schemaPath, String filePath, String rootType, boolean compact)
+            throws IOException {
+        assertEquals(
+            JSoundValidateExecutor.validateTree(schemaPath, filePath, rootType, compact),
+            JSoundValidateExecutor.validate(schemaPath, filePath, rootType, compact)
+        );
+    }
+}
@@ -0,0 +1,166 @@
+package validation.tape;
+
+import jsound.exceptions.JsoundException;
+import jsound.item.ItemArena;
+import jsound.item.PrimitiveArrayItem;
+import jsound.item.ShapedObjectItem;
+import jsound.json.InstanceFileJsonParser;
+import jsound.json.InstanceTape;
+import org.api.CompiledSchema;
+import org.api.Item;
+import org.api.TypeDescriptor;
+import org.api.ValidationResult;
+import org.api.executors.JSoundExecutor;
+import org.api.executors.JSoundValidateExecutor;
+import org.junit.Test;
+import validation.InstanceFileTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InstanceTapeTest extends InstanceFileTest {
+
+    @Test
+    public void testTreeValidationOverTape() throws IOException {
+        String escapedKeys = writeInstance(
+            "{ \"extra\": { \"a\": [ 1, { \"b\": null } ] }, \"people\": [ { \"fir\\u0073t\": \"Ann\" } ] }"
+        );
+        assertTrue(JSoundValidateExecutor.validateTree(peopleSchemaPath, escapedKeys, "directory", true));
+        String missingFirst = writeInstance("{ \"people\": [ { \"last\": \"Kirk\" }, [ ] ] }");
+        assertFalse(JSoundValidateExecutor.validateTree(peopleSchemaPath, missingFirst, "directory", true));
+    }
+
+    @Test(expected = JsoundException.class)
+    public void testMalformedTreeInstance() throws IOException {
+        String malformed = writeInstance("{ \"people\": [ { \"first\": \"Ann\" } }");
+        JSoundValidateExecutor.validateTree(peopleSchemaPath, malformed, "directory", true);
+    }
+
+    @Test
+    public void testNumericArrays() throws IOException {
+        String schema = writeSchema(
+            "{ \"series\": { \"counts\": \"counts\", \"ratios\": \"ratios\", \"amounts\": \"amounts\" }, "
+                + "\"counts\": [ \"integer\" ], \"ratios\": [ \"double\" ], \"amounts\": [ \"decimal\" ] }"
+        );
+        String valid = writeInstance(
+            "{ \"counts\": [ 1, -9223372036854775807, 0 ], \"ratios\": [ 1e3, -2.5E-1 ], "
+                + "\"amounts\": [ 1.50, -0.25, 7 ] }"
+        );
+        assertSameResult(schema, valid, "series", true);
+        assertTrue(JSoundValidateExecutor.validateTree(schema, valid, "series", true));
+        String mixed = writeInstance("{ \"counts\": [ ], \"ratios\": [ 1e3 ], \"amounts\": [ 1.5, 2, \"3\" ] }");
+        assertSameResult(schema, mixed, "series", true);
+        assertTrue(JSoundValidateExecutor.validateTree(schema, mixed, "series", true));
+        String invalid = writeInstance("{ \"counts\": [ 1, 2 ], \"ratios\": 0.5, \"amounts\": [ ] }");
+        assertSameResult(schema, invalid, "series", true);
+        assertFalse(JSoundValidateExecutor.validateTree(schema, invalid, "series", true));
+
+        byte[] instance = Files.readAllBytes(Paths.get(valid));
+        Item series = InstanceFileJsonParser.getLazyItem(instance, 0, instance.length);
+        CompiledSchema compiledSchema = JSoundExecutor.compileSchema(schema, "series", true);
+        String annotation = compiledSchema.getRootType().annotate(series).toTYSONString();
+        assertTrue(annotation.contains("(\"integer\") -9223372036854775807"));
+        assertTrue(annotation.contains("(\"double\") -0.25"));
+        assertTrue(annotation.contains("(\"decimal\") 1.50"));
+
+        byte[] plain = "{ \"counts\": [ 9223372036854775807, 9223372036854775808 ], \"amounts\": [ 0.0000001, 2.50 ] }"
+            .getBytes(StandardCharsets.UTF_8);
+        Item plainSeries = InstanceFileJsonParser.getLazyItem(plain, 0, plain.length);
+        assertTrue(compiledSchema.getRootType().validate(plainSeries, false));
+        assertTrue(plainSeries.getItemMap().get("amounts") instanceof PrimitiveArrayItem);
+        assertFalse(plainSeries.getItemMap().get("counts") instanceof PrimitiveArrayItem);
+        String plainAnnotation = compiledSchema.getRootType().annotate(plainSeries).toTYSONString();
+        assertTrue(plainAnnotation.contains("(\"decimal\") 0.0000001"));
+        assertTrue(plainAnnotation.contains("(\"decimal\") 2.50"));
+        assertTrue(plainAnnotation.contains("(\"integer\") 9223372036854775808"));
+    }
+
+    @Test
+    public void testObjectShapesAreScopedToTheTape() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        TypeDescriptor person = directory.getType("person");
+        byte[] instance = ("[ { \"first\": \"Ann\", \"last\": \"Lee\" }, { \"first\": \"Bo\", \"last\": \"Li\" }, "
+            + "{ \"last\": \"Kirk\", \"first\": \"Jim\" }, { \"last\": \"Kirk\" } ]").getBytes(StandardCharsets.UTF_8);
+        ItemArena.open(directory.getInternTable());
+        try {
+            InstanceTape tape = InstanceTape.parse(instance, 0, instance.length);
+            List<Item> people = tape.getItem(InstanceTape.ROOT).getItems();
+            ShapedObjectItem ann = (ShapedObjectItem) people.get(0);
+            ShapedObjectItem reordered = (ShapedObjectItem) people.get(2);
+            assertSame(ann.getShape(), ((ShapedObjectItem) people.get(1)).getShape());
+            assertNotSame(ann.getShape(), reordered.getShape());
+            assertEquals("Jim", reordered.getItem(reordered.getShape().indexOf("first")).getStringValue());
+            assertTrue(person.validate(ann, false));
+            assertTrue(person.validate(reordered, false));
+            assertFalse(person.validate(people.get(3), false));
+
+            InstanceTape other = InstanceTape.parse(instance, 0, instance.length);
+            ShapedObjectItem copy = (ShapedObjectItem) other.getItem(InstanceTape.ROOT).getItems().get(0);
+            assertNotSame(ann.getShape(), copy.getShape());
+            assertEquals(ann.getShape().getKeys(), copy.getShape().getKeys());
+            assertTrue(person.validate(copy, false));
+        } finally {
+            ItemArena.close();
+        }
+    }
+
+    @Test
+    public void testMalformedMembersAreReportedEvenIfUnread() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        String valid = writeInstance("{ \"people\": [ ], \"other\": [ -0.5e+3, 0, \"\\u00e9\\n\", true ] }");
+        assertTrue(JSoundValidateExecutor.validateTree(directory, valid));
+        for (String member : List.of("01", "1.", "-", "1e", "1-2", "+1", ".5", "\"\\q\"", "\"\\u12g4\"", "tru")) {
+            String malformed = writeInstance("{ \"people\": [ ], \"other\": [ " + member + " ] }");
+            try {
+                JSoundValidateExecutor.validateTree(directory, malformed);
+                fail(member);
+            } catch (JsoundException e) {
+                assertNotNull(e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testTapeHoldsExactlyOneWellFormedValue() throws IOException {
+        CompiledSchema directory = JSoundExecutor.compileSchema(peopleSchemaPath, "directory", true);
+        assertTrue(JSoundValidateExecutor.validateTree(directory, writeInstance("{ \"people\": [ ] } \n\t ")));
+        List<String> instances = List.of(
+            "{ \"people\": [ ] } garbage",
+            "{ \"people\": [ ] } { }",
+            "{ \"people\": [ { \"first\": \"Ann\tLee\" } ] }",
+            "{ \"people\": [ ], \"other\": \"line\nbreak\" }"
+        );
+        for (String instance : instances) {
+            byte[] bytes = instance.getBytes(StandardCharsets.UTF_8);
+            ValidationResult streamed = JSoundValidateExecutor.validate(directory, new ByteArrayInputStream(bytes));
+            assertFalse(instance, JSoundValidateExecutor.validate(directory, bytes).isValid());
+            assertFalse(instance, streamed.isValid());
+            try {
+                JSoundValidateExecutor.validateTree(directory, writeInstance(instance));
+                fail(instance);
+            } catch (JsoundException e) {
+                assertNotNull(e.getMessage());
+            }
+        }
+    }
+
+    private void assertSameResult(String schemaPath, String filePath, String rootType, boolean compact)
+            throws IOException {
+        assertEquals(
+            JSoundValidateExecutor.validateTree(schemaPath, filePath, rootType, compact),
+            JSoundValidateExecutor.validate(schemaPath, filePath, rootType, compact)
+        );
+    }
+}